@@ -0,0 +1,542 @@
+package container;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * File de priorité d'int (max-heap) qui choisit sa représentation d'après les clés observées
+ *
+ * Trois représentations sont possibles :
+ * - BINARY_HEAP : tas binaire sur int[], valable pour toutes les distributions ;
+ * - BUCKET_QUEUE : un compteur par valeur quand les clés tiennent dans une petite plage
+ *   (BUCKET_SPAN valeurs), insertion en O(1) ;
+ * - RADIX_HEAP : tas radix quand les clés sont monotones, c'est-à-dire qu'aucune clé
+ *   insérée ne dépasse la dernière clé retirée (ordonnancement d'échéances, horloges...).
+ *
+ * Les insertions sont observées par fenêtres de WINDOW éléments (plage de valeurs et
+ * violations de monotonie). Une représentation candidate doit gagner CONFIRM fenêtres
+ * consécutives avant la migration (hystérésis contre les oscillations). Si la file
+ * entière ne tient pas dans la plage des compteurs, la candidature est abandonnée et
+ * les compteurs ne sont plus candidats pendant un nombre de fenêtres qui double à
+ * chaque échec : la vérification en O(n) n'est pas refaite à chaque fenêtre.
+ *
+ * En mode compteurs ou radix, une insertion incompatible (hors plage, ou non monotone)
+ * ne fait pas migrer tout de suite : elle va dans un petit tas binaire de débordement,
+ * consulté avec la représentation principale. Le retour au tas binaire n'a lieu que si
+ * les fenêtres le confirment ou si le débordement dépasse size / 16 (au moins
+ * OVERFLOW_MIN) éléments, ce qui évite d'alterner entre deux modes sur quelques
+ * valeurs isolées. Chaque migration coûte O(n).
+ */
+public class AdaptiveIntPriorityQueue implements Queue<Integer> {
+
+    /** Représentations possibles, consultables par mode() */
+    public enum Mode {
+        BINARY_HEAP,
+        BUCKET_QUEUE,
+        RADIX_HEAP
+    }
+
+    private static final int WINDOW = 1024;        // Insertions par fenêtre d'observation
+    private static final int CONFIRM = 2;          // Fenêtres gagnantes avant migration
+    private static final int BUCKET_SPAN = 1 << 12; // Plage maximale d'une file à compteurs
+    private static final int OVERFLOW_MIN = 64;    // Débordement toléré avant retour au tas
+    private static final int MAX_BACKOFF = 64;     // Fenêtres d'attente maximales après un échec
+
+    private Mode mode = Mode.BINARY_HEAP;
+    private int size;
+    private int migrations;
+
+    // Observation en ligne
+    private int windowCount;
+    private int windowMin = Integer.MAX_VALUE;
+    private int windowMax = Integer.MIN_VALUE;
+    private int windowViolations;
+    private int lastPopped = Integer.MAX_VALUE; // Aucun retrait : toute clé est monotone
+    private Mode candidate;
+    private int candidateStreak;
+    private int bucketBackoff;     // Fenêtres restantes avant une nouvelle candidature des compteurs
+    private int bucketFailures;    // Échecs consécutifs de la vérification de plage
+
+    // BINARY_HEAP : tout le contenu ; autres modes : tas de débordement de overflowSize éléments
+    private int[] heap;
+    private int overflowSize;
+
+    // BUCKET_QUEUE : counts[k - base] éléments de valeur k
+    private int[] counts;
+    private int base;
+    private int bucketTop = -1; // Indice du plus grand compteur non nul
+
+    // RADIX_HEAP, sur u = Integer.MAX_VALUE - clé (le maximum devient le minimum)
+    private int[][] radixBuckets;
+    private int[] radixSizes;
+    private long radixLast;
+
+    public AdaptiveIntPriorityQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        this.heap = new int[capacity];
+    }
+
+    /**
+     * Représentation actuellement utilisée
+     */
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Nombre de changements de représentation depuis la création
+     */
+    public int migrations() {
+        return migrations;
+    }
+
+    /**
+     * Ajoute un élément sans boxing
+     */
+    public void insert(int e) {
+        observe(e);
+        switch (mode) {
+            case BUCKET_QUEUE:
+                if (!bucketInsert(e)) {
+                    overflowInsert(e);
+                }
+                break;
+            case RADIX_HEAP:
+                if (e > radixKey(radixLast)) {
+                    overflowInsert(e);
+                } else {
+                    radixInsert(e);
+                }
+                break;
+            default:
+                heapInsert(e, size);
+                break;
+        }
+        size++;
+
+        if (windowCount == WINDOW) {
+            evaluate();
+        }
+    }
+
+    /**
+     * Consulte le plus grand élément sans boxing
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        if (mode != Mode.BINARY_HEAP && overflowWins()) {
+            return heap[0];
+        }
+        switch (mode) {
+            case BUCKET_QUEUE:
+                return base + bucketTop;
+            case RADIX_HEAP:
+                radixPull();
+                return radixKey(radixLast);
+            default:
+                return heap[0];
+        }
+    }
+
+    // Vrai si le maximum est dans le tas de débordement (modes compteurs et radix)
+    private boolean overflowWins() {
+        if (overflowSize == 0) {
+            return false;
+        }
+        if (overflowSize == size) {
+            return true; // Représentation principale vide
+        }
+        if (mode == Mode.BUCKET_QUEUE) {
+            return heap[0] > base + bucketTop;
+        }
+        radixPull();
+        return heap[0] > radixKey(radixLast);
+    }
+
+    /**
+     * Retire et retourne le plus grand élément sans boxing
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        int maxElement;
+        if (mode != Mode.BINARY_HEAP && overflowWins()) {
+            maxElement = heap[0];
+            overflowSize--;
+            if (overflowSize > 0) {
+                heapifyDown(heap[overflowSize], overflowSize);
+            }
+            size--;
+            lastPopped = maxElement;
+            return maxElement;
+        }
+        switch (mode) {
+            case BUCKET_QUEUE:
+                maxElement = base + bucketTop;
+                counts[bucketTop]--;
+                while (bucketTop >= 0 && counts[bucketTop] == 0) {
+                    bucketTop--;
+                }
+                break;
+            case RADIX_HEAP:
+                radixPull();
+                radixSizes[0]--;
+                maxElement = radixKey(radixLast);
+                break;
+            default:
+                maxElement = heap[0];
+                if (size > 1) {
+                    heapifyDown(heap[size - 1], size - 1);
+                }
+                break;
+        }
+        size--;
+        lastPopped = maxElement;
+        return maxElement;
+    }
+
+    // === Observation et migration ===
+
+    private void observe(int e) {
+        windowCount++;
+        windowMin = Math.min(windowMin, e);
+        windowMax = Math.max(windowMax, e);
+        if (e > lastPopped) {
+            windowViolations++;
+        }
+    }
+
+    private void evaluate() {
+        Mode best;
+        if (bucketBackoff > 0) {
+            bucketBackoff--;
+        }
+        if ((long) windowMax - windowMin < BUCKET_SPAN && bucketBackoff == 0) {
+            best = Mode.BUCKET_QUEUE;
+        } else if (windowViolations == 0) {
+            best = Mode.RADIX_HEAP;
+        } else {
+            best = Mode.BINARY_HEAP;
+        }
+
+        if (best == mode) {
+            candidate = null;
+            candidateStreak = 0;
+        } else if (best == candidate) {
+            candidateStreak++;
+        } else {
+            candidate = best;
+            candidateStreak = 1;
+        }
+        if (candidate != null && candidateStreak >= CONFIRM) {
+            int[] elements = toArray();
+            if (best != Mode.BUCKET_QUEUE || fitsInBuckets(elements)) {
+                bucketFailures = 0;
+                migrate(best, elements);
+            } else {
+                // La file entière est trop étalée : abandonner et patienter
+                candidate = null;
+                candidateStreak = 0;
+                bucketFailures++;
+                bucketBackoff = Math.min(MAX_BACKOFF, 1 << Math.min(bucketFailures, 6));
+            }
+        }
+
+        windowCount = 0;
+        windowMin = Integer.MAX_VALUE;
+        windowMax = Integer.MIN_VALUE;
+        windowViolations = 0;
+    }
+
+    private static boolean fitsInBuckets(int[] elements) {
+        if (elements.length == 0) {
+            return true;
+        }
+        int min = elements[0];
+        int max = elements[0];
+        for (int e : elements) {
+            min = Math.min(min, e);
+            max = Math.max(max, e);
+        }
+        return (long) max - min < BUCKET_SPAN;
+    }
+
+    // Insertion incompatible avec la représentation principale : dans le débordement,
+    // tant qu'il reste petit, sinon retour au tas binaire
+    private void overflowInsert(int e) {
+        if (overflowSize >= Math.max(OVERFLOW_MIN, size / 16)) {
+            migrate(Mode.BINARY_HEAP, toArray());
+            heapInsert(e, size);
+            return;
+        }
+        heapInsert(e, overflowSize);
+        overflowSize++;
+    }
+
+    // Reconstruit la file dans la représentation target à partir de tous ses éléments
+    private void migrate(Mode target, int[] elements) {
+        heap = target == Mode.BINARY_HEAP ? null : new int[16]; // Débordement vide
+        overflowSize = 0;
+        counts = null;
+        radixBuckets = null;
+        radixSizes = null;
+
+        switch (target) {
+            case BUCKET_QUEUE:
+                counts = new int[BUCKET_SPAN];
+                base = Integer.MAX_VALUE;
+                for (int e : elements) {
+                    base = Math.min(base, e);
+                }
+                bucketTop = -1;
+                for (int e : elements) {
+                    counts[e - base]++;
+                    bucketTop = Math.max(bucketTop, e - base);
+                }
+                break;
+            case RADIX_HEAP:
+                radixBuckets = new int[33][];
+                radixSizes = new int[33];
+                // Toute clé présente doit être <= à la dernière clé de référence
+                int reference = lastPopped;
+                for (int e : elements) {
+                    reference = Math.max(reference, e);
+                }
+                radixLast = radixValue(reference);
+                for (int e : elements) {
+                    radixInsert(e);
+                }
+                break;
+            default:
+                heap = Arrays.copyOf(elements, Math.max(1, elements.length * 2));
+                // Construction de Floyd en O(n)
+                for (int i = elements.length / 2 - 1; i >= 0; i--) {
+                    heapifyDown(heap[i], i, elements.length);
+                }
+                break;
+        }
+        mode = target;
+        migrations++;
+        candidate = null;
+        candidateStreak = 0;
+    }
+
+    // Copie de tous les éléments, dans un ordre quelconque
+    private int[] toArray() {
+        int[] elements = new int[size];
+        int n = 0;
+        if (mode != Mode.BINARY_HEAP) {
+            System.arraycopy(heap, 0, elements, 0, overflowSize);
+            n = overflowSize;
+        }
+        switch (mode) {
+            case BUCKET_QUEUE:
+                for (int i = 0; i <= bucketTop; i++) {
+                    for (int c = 0; c < counts[i]; c++) {
+                        elements[n++] = base + i;
+                    }
+                }
+                break;
+            case RADIX_HEAP:
+                for (int b = 0; b < radixSizes.length; b++) {
+                    for (int i = 0; i < radixSizes[b]; i++) {
+                        elements[n++] = radixKey(Integer.toUnsignedLong(radixBuckets[b][i]));
+                    }
+                }
+                break;
+            default:
+                System.arraycopy(heap, 0, elements, 0, size);
+                break;
+        }
+        return elements;
+    }
+
+    // === BINARY_HEAP ===
+
+    // Insère e dans le tas de n éléments (tout le contenu, ou le débordement)
+    private void heapInsert(int e, int n) {
+        if (n == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        int index = n;
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            if (e <= heap[parentIndex]) {
+                break;
+            }
+            heap[index] = heap[parentIndex];
+            index = parentIndex;
+        }
+        heap[index] = e;
+    }
+
+    // Redescend e depuis la racine dans un tas de taille n (après retrait)
+    private void heapifyDown(int e, int n) {
+        heapifyDown(e, 0, n);
+    }
+
+    private void heapifyDown(int e, int index, int n) {
+        int half = n / 2;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int rightChild = child + 1;
+            if (rightChild < n && heap[rightChild] > heap[child]) {
+                child = rightChild;
+            }
+            if (e >= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = e;
+    }
+
+    // === BUCKET_QUEUE ===
+
+    // Retourne false si la clé ne peut pas tenir dans la plage des compteurs
+    private boolean bucketInsert(int e) {
+        long offset = (long) e - base;
+        if (offset < 0 || offset >= BUCKET_SPAN) {
+            if (!rebaseBuckets(e)) {
+                return false;
+            }
+            offset = (long) e - base;
+        }
+        counts[(int) offset]++;
+        bucketTop = Math.max(bucketTop, (int) offset);
+        return true;
+    }
+
+    // Décale la plage des compteurs pour y inclure e, si l'écart total le permet
+    private boolean rebaseBuckets(int e) {
+        if (bucketTop < 0) {
+            base = e;
+            return true;
+        }
+        int lowest = 0;
+        while (counts[lowest] == 0) {
+            lowest++;
+        }
+        long newBase = Math.min((long) e, (long) base + lowest);
+        long newTop = Math.max((long) e, (long) base + bucketTop);
+        if (newTop - newBase >= BUCKET_SPAN) {
+            return false;
+        }
+        int[] shifted = new int[BUCKET_SPAN];
+        int shift = (int) (base - newBase);
+        System.arraycopy(counts, lowest, shifted, lowest + shift, bucketTop - lowest + 1);
+        counts = shifted;
+        bucketTop += shift;
+        base = (int) newBase;
+        return true;
+    }
+
+    // === RADIX_HEAP ===
+
+    private static long radixValue(int key) {
+        return (long) Integer.MAX_VALUE - key; // Entre 0 et 2^32 - 1
+    }
+
+    private static int radixKey(long value) {
+        return (int) (Integer.MAX_VALUE - value);
+    }
+
+    private int radixBucket(long value) {
+        return value == radixLast ? 0 : 64 - Long.numberOfLeadingZeros(value ^ radixLast);
+    }
+
+    private void radixInsert(int key) {
+        long value = radixValue(key);
+        radixAdd(radixBucket(value), (int) value);
+    }
+
+    private void radixAdd(int bucket, int value) {
+        int[] items = radixBuckets[bucket];
+        if (items == null) {
+            items = new int[8];
+            radixBuckets[bucket] = items;
+        } else if (radixSizes[bucket] == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+            radixBuckets[bucket] = items;
+        }
+        items[radixSizes[bucket]++] = value;
+    }
+
+    // Garantit que le seau 0 (valeurs égales à radixLast) n'est pas vide
+    private void radixPull() {
+        if (radixSizes[0] > 0) {
+            return;
+        }
+        int b = 1;
+        while (radixSizes[b] == 0) {
+            b++;
+        }
+        // Nouveau minimum, puis redistribution du seau vers des seaux plus bas
+        int[] items = radixBuckets[b];
+        int count = radixSizes[b];
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, Integer.toUnsignedLong(items[i]));
+        }
+        radixLast = min;
+        radixSizes[b] = 0;
+        radixBuckets[b] = null;
+        for (int i = 0; i < count; i++) {
+            radixAdd(radixBucket(Integer.toUnsignedLong(items[i])), items[i]);
+        }
+    }
+
+    // === Interface Queue ===
+
+    @Override
+    public boolean insertElement(Integer e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
+        }
+        insert(e);
+        return true;
+    }
+
+    @Override
+    public Integer element() {
+        return peek();
+    }
+
+    @Override
+    public Integer popElement() {
+        return pop();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Itérateur sur un instantané des éléments (ordre quelconque)
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return Arrays.stream(toArray()).iterator();
+    }
+
+    /**
+     * Retourne une représentation en chaîne : mode puis éléments (ordre quelconque)
+     */
+    @Override
+    public String toString() {
+        return mode + Arrays.toString(toArray());
+    }
+}
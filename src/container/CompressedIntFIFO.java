@@ -0,0 +1,264 @@
+package container;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * File FIFO d'entiers compressée, pensée pour les longues files d'identifiants
+ * croissants (écarts faibles entre valeurs successives)
+ *
+ * Les insertions remplissent un bloc de queue non compressé de BLOCK_SIZE valeurs ; une
+ * fois plein, il est scellé : on garde sa première valeur puis les écarts successifs en
+ * "zigzag" (les écarts négatifs restent petits), empaquetés dans un long[] sur le
+ * nombre de bits du plus grand écart. La tête décode un bloc entier à la fois dans un
+ * tableau int[]. Insertion et retrait sont en O(1) amorti ; une suite croissante de
+ * pas 1 coûte 2 bits par valeur au lieu d'une référence et d'un Integer.
+ */
+public class CompressedIntFIFO implements Queue<Integer> {
+
+    static final int BLOCK_SIZE = 128;
+
+    // Bloc scellé : première valeur et écarts zigzag empaquetés sur bits bits
+    private static final class Block {
+        final int first;
+        final int bits;
+        final long[] words;
+
+        Block(int first, int bits, long[] words) {
+            this.first = first;
+            this.bits = bits;
+            this.words = words;
+        }
+    }
+
+    private final ArrayDeque<Block> blocks = new ArrayDeque<>();
+    private int[] head = new int[BLOCK_SIZE];  // Bloc de tête décodé
+    private int headPos;
+    private int headCount;
+    private int[] tail = new int[BLOCK_SIZE];  // Bloc de queue en cours de remplissage
+    private int tailCount;
+    private int size;
+
+    @Override
+    public boolean insertElement(Integer e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
+        }
+        insert(e);
+        return true;
+    }
+
+    /**
+     * Insère une valeur sans boxing
+     */
+    public void insert(int value) {
+        tail[tailCount++] = value;
+        size++;
+        if (tailCount == BLOCK_SIZE) {
+            if (headPos == headCount && blocks.isEmpty()) {
+                // Tête vide : le bloc passe directement en tête, sans encodage
+                int[] swap = head;
+                head = tail;
+                tail = swap;
+                headPos = 0;
+                headCount = BLOCK_SIZE;
+            } else {
+                blocks.addLast(encode(tail));
+            }
+            tailCount = 0;
+        }
+    }
+
+    @Override
+    public Integer element() {
+        return peek();
+    }
+
+    /**
+     * Plus ancienne valeur, sans boxing
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        fillHead();
+        return head[headPos];
+    }
+
+    @Override
+    public Integer popElement() {
+        return pop();
+    }
+
+    /**
+     * Retire la plus ancienne valeur, sans boxing
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        fillHead();
+        size--;
+        return head[headPos++];
+    }
+
+    // Recharge la tête si elle est épuisée : bloc scellé suivant, sinon bloc de queue
+    private void fillHead() {
+        if (headPos < headCount) {
+            return;
+        }
+        headPos = 0;
+        if (!blocks.isEmpty()) {
+            decode(blocks.pollFirst(), head);
+            headCount = BLOCK_SIZE;
+        } else {
+            int[] swap = head;
+            head = tail;
+            tail = swap;
+            headCount = tailCount;
+            tailCount = 0;
+        }
+    }
+
+    // === Encodage ===
+
+    private static Block encode(int[] values) {
+        int or = 0;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            or |= zigzag(values[i] - values[i - 1]);
+        }
+        int bits = 32 - Integer.numberOfLeadingZeros(or);
+        long[] words = new long[((BLOCK_SIZE - 1) * bits + 63) >>> 6];
+        long bitPos = 0;
+        for (int i = 1; i < BLOCK_SIZE && bits > 0; i++, bitPos += bits) {
+            long z = zigzag(values[i] - values[i - 1]) & 0xFFFFFFFFL;
+            int word = (int) (bitPos >>> 6);
+            int offset = (int) (bitPos & 63);
+            words[word] |= z << offset;
+            if (offset + bits > 64) {
+                words[word + 1] |= z >>> (64 - offset);
+            }
+        }
+        return new Block(values[0], bits, words);
+    }
+
+    private static void decode(Block block, int[] out) {
+        int bits = block.bits;
+        long mask = (1L << bits) - 1;
+        int value = block.first;
+        out[0] = value;
+        long bitPos = 0;
+        for (int i = 1; i < BLOCK_SIZE; i++, bitPos += bits) {
+            int z = 0;
+            if (bits > 0) {
+                int word = (int) (bitPos >>> 6);
+                int offset = (int) (bitPos & 63);
+                long raw = block.words[word] >>> offset;
+                if (offset + bits > 64) {
+                    raw |= block.words[word + 1] << (64 - offset);
+                }
+                z = (int) (raw & mask);
+            }
+            value += (z >>> 1) ^ -(z & 1); // Zigzag inverse
+            out[i] = value;
+        }
+    }
+
+    private static int zigzag(int delta) {
+        return (delta << 1) ^ (delta >> 31);
+    }
+
+    // === Accesseurs ===
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Nombre de blocs scellés (compressés) entre la tête et la queue
+     */
+    public int blockCount() {
+        return blocks.size();
+    }
+
+    /**
+     * Estimation de la mémoire occupée par les données, en octets (blocs compressés
+     * et tableaux de tête et de queue, sans les en-têtes d'objets)
+     */
+    public long storageBytes() {
+        long bytes = 2L * BLOCK_SIZE * Integer.BYTES;
+        for (Block block : blocks) {
+            bytes += 8L + (long) block.words.length * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * Itérateur pour parcourir les éléments dans l'ordre FIFO (décode les blocs au vol)
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new CompressedIterator();
+    }
+
+    private class CompressedIterator implements Iterator<Integer> {
+        private final Iterator<Block> pending = blocks.iterator();
+        private int[] current = head;
+        private int position = headPos;
+        private int count = headCount;
+        private boolean tailReached;
+        private int remaining = size;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Aucun élément suivant");
+            }
+            while (position == count) {
+                position = 0;
+                if (pending.hasNext()) {
+                    if (current == head || current == tail) {
+                        current = new int[BLOCK_SIZE]; // Ne pas écraser la tête de la file
+                    }
+                    decode(pending.next(), current);
+                    count = BLOCK_SIZE;
+                } else if (!tailReached) {
+                    tailReached = true;
+                    current = tail;
+                    count = tailCount;
+                }
+            }
+            remaining--;
+            return current[position++];
+        }
+    }
+
+    /**
+     * Retourne une représentation en chaîne des éléments, du plus ancien au plus récent
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        Iterator<Integer> it = iterator();
+        while (it.hasNext()) {
+            sb.append(it.next());
+            if (it.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,288 @@
+package container;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * File de priorité à sémantique d'ensemble : chaque identifiant int y figure au plus
+ * une fois, avec une priorité int (la plus grande priorité sort en premier)
+ *
+ * Le tas (tableaux parallèles priorités / identifiants) est couplé à un index par
+ * adressage ouvert (sondage linéaire) qui associe chaque identifiant à sa position
+ * dans le tas : contains, insertIfAbsent et insertOrKeepBest sont en O(1) pour le test
+ * d'appartenance, sans aucun boxing.
+ */
+public class DedupIntPriorityQueue {
+
+    private static final int EMPTY = -1; // Case libre dans l'index
+
+    // Tas (max-heap sur priorities)
+    private int[] priorities;
+    private int[] ids;
+    private int[] tablePositions; // Case de l'index qui pointe vers chaque position du tas
+    private int size;
+    private int capacity;
+
+    // Index identifiant -> position dans le tas
+    private int[] tableIds;
+    private int[] tableSlots;     // Position dans le tas, ou EMPTY
+    private int mask;
+
+    public DedupIntPriorityQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        this.capacity = capacity;
+        this.priorities = new int[capacity];
+        this.ids = new int[capacity];
+        this.tablePositions = new int[capacity];
+        this.size = 0;
+        allocateTable(capacity);
+    }
+
+    /**
+     * Indique si l'identifiant est présent dans la file
+     */
+    public boolean contains(int id) {
+        return find(id) >= 0;
+    }
+
+    /**
+     * Retourne la priorité actuelle de l'identifiant
+     */
+    public int priorityOf(int id) {
+        int t = find(id);
+        if (t < 0) {
+            throw new NoSuchElementException("Identifiant absent : " + id);
+        }
+        return priorities[tableSlots[t]];
+    }
+
+    /**
+     * Ajoute l'identifiant s'il est absent ; ne fait rien sinon
+     *
+     * @return true si l'identifiant a été ajouté
+     */
+    public boolean insertIfAbsent(int id, int priority) {
+        int t = find(id);
+        if (t >= 0) {
+            return false;
+        }
+        insertAt(~t, id, priority);
+        return true;
+    }
+
+    /**
+     * Ajoute l'identifiant, ou garde la meilleure des deux priorités s'il est déjà présent
+     *
+     * @return true si la file a été modifiée (ajout ou priorité augmentée)
+     */
+    public boolean insertOrKeepBest(int id, int priority) {
+        int t = find(id);
+        if (t < 0) {
+            insertAt(~t, id, priority);
+            return true;
+        }
+        int index = tableSlots[t];
+        if (priority <= priorities[index]) {
+            return false;
+        }
+        priorities[index] = priority;
+        heapifyUp(index);
+        return true;
+    }
+
+    private void insertAt(int t, int id, int priority) {
+        if (size == capacity) {
+            resize();
+            t = ~find(id); // L'index a été reconstruit
+        }
+        tableIds[t] = id;
+        tableSlots[t] = size;
+        ids[size] = id;
+        priorities[size] = priority;
+        tablePositions[size] = t;
+        size++;
+        heapifyUp(size - 1);
+    }
+
+    /**
+     * Consulte l'identifiant de plus grande priorité
+     */
+    public int peekId() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        return ids[0];
+    }
+
+    /**
+     * Consulte la plus grande priorité
+     */
+    public int peekPriority() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        return priorities[0];
+    }
+
+    /**
+     * Retire l'identifiant de plus grande priorité et le retourne
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        int maxId = ids[0];
+        removeFromTable(tablePositions[0]);
+
+        size--;
+        if (size > 0) {
+            move(size, 0);
+            heapifyDown(0);
+        }
+        return maxId;
+    }
+
+    // === Tas ===
+
+    // Déplace l'entrée du tas de from vers to en tenant l'index à jour
+    private void move(int from, int to) {
+        priorities[to] = priorities[from];
+        ids[to] = ids[from];
+        tablePositions[to] = tablePositions[from];
+        tableSlots[tablePositions[to]] = to;
+    }
+
+    private void heapifyUp(int index) {
+        int priority = priorities[index];
+        int id = ids[index];
+        int t = tablePositions[index];
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            if (priority <= priorities[parentIndex]) {
+                break;
+            }
+            move(parentIndex, index);
+            index = parentIndex;
+        }
+        priorities[index] = priority;
+        ids[index] = id;
+        tablePositions[index] = t;
+        tableSlots[t] = index;
+    }
+
+    private void heapifyDown(int index) {
+        int priority = priorities[index];
+        int id = ids[index];
+        int t = tablePositions[index];
+        int half = size / 2;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int rightChild = child + 1;
+            if (rightChild < size && priorities[rightChild] > priorities[child]) {
+                child = rightChild;
+            }
+            if (priority >= priorities[child]) {
+                break;
+            }
+            move(child, index);
+            index = child;
+        }
+        priorities[index] = priority;
+        ids[index] = id;
+        tablePositions[index] = t;
+        tableSlots[t] = index;
+    }
+
+    private void resize() {
+        int newCapacity = capacity * 2;
+        priorities = Arrays.copyOf(priorities, newCapacity);
+        ids = Arrays.copyOf(ids, newCapacity);
+        tablePositions = Arrays.copyOf(tablePositions, newCapacity);
+        capacity = newCapacity;
+
+        // Reconstruire l'index, dimensionné pour la nouvelle capacité
+        allocateTable(newCapacity);
+        for (int i = 0; i < size; i++) {
+            int t = ~find(ids[i]);
+            tableIds[t] = ids[i];
+            tableSlots[t] = i;
+            tablePositions[i] = t;
+        }
+    }
+
+    // === Index par adressage ouvert ===
+
+    private void allocateTable(int forCapacity) {
+        // Taux de remplissage d'au plus 1/2
+        int tableSize = Integer.highestOneBit(Math.max(2, forCapacity) * 2 - 1) * 2;
+        tableIds = new int[tableSize];
+        tableSlots = new int[tableSize];
+        Arrays.fill(tableSlots, EMPTY);
+        mask = tableSize - 1;
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9; // Mélange multiplicatif (Fibonacci)
+        return h ^ (h >>> 16);
+    }
+
+    // Case de l'identifiant, ou ~(case libre où l'insérer) s'il est absent
+    private int find(int id) {
+        int t = hash(id) & mask;
+        while (tableSlots[t] != EMPTY) {
+            if (tableIds[t] == id) {
+                return t;
+            }
+            t = (t + 1) & mask;
+        }
+        return ~t;
+    }
+
+    // Suppression par décalage arrière : pas de marqueur de suppression à gérer
+    private void removeFromTable(int t) {
+        int hole = t;
+        int next = (hole + 1) & mask;
+        while (tableSlots[next] != EMPTY) {
+            int ideal = hash(tableIds[next]) & mask;
+            // L'entrée peut combler le trou si sa case idéale n'est pas dans ]hole, next]
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                tableIds[hole] = tableIds[next];
+                tableSlots[hole] = tableSlots[next];
+                tablePositions[tableSlots[hole]] = hole;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        tableSlots[hole] = EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Retourne une représentation en chaîne des entrées id=priorité, dans l'ordre du tas
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(ids[i]).append('=').append(priorities[i]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
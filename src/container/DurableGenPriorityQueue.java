@@ -0,0 +1,659 @@
+package container;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.zip.CRC32;
+
+/**
+ * GenPriorityQueue persistante : chaque insertion et chaque retrait est d'abord ajouté
+ * à un journal (write-ahead log) dans un répertoire, et la file est reconstruite au
+ * redémarrage à partir du dernier instantané et de la fin du journal
+ *
+ * Format d'un enregistrement : [int longueur][int CRC32][long séquence][byte opération]
+ * [élément encodé par le Codec pour un INSERT]. Un enregistrement tronqué ou dont le
+ * CRC est faux (écriture interrompue par un crash) marque la fin du journal : il est
+ * ignoré et coupé à la réouverture. Si une écriture échoue en cours de route, le
+ * journal est ramené à sa taille d'avant l'enregistrement, pour que les suivants ne
+ * soient pas écrits derrière des octets invalides.
+ *
+ * Avec Durability.FSYNC, un appel ne rend la main qu'une fois son enregistrement sur
+ * disque, et les fsync sont groupés ("group commit") : le premier thread qui attend
+ * devient meneur et son fsync couvre tous les enregistrements déjà écrits, y compris
+ * ceux des threads arrivés pendant ce temps. Avec Durability.WRITE, l'enregistrement
+ * est écrit sans fsync : il survit à l'arrêt du processus, pas à celui de la machine.
+ * Une interruption du thread appelant ne fait pas échouer l'opération (le drapeau
+ * d'interruption est conservé). Un échec de fsync est fatal : la file se ferme et
+ * toute opération suivante lève IllegalStateException ; l'opération en cours a pu
+ * être journalisée ou non, c'est la réouverture qui fait foi.
+ *
+ * Quand le journal dépasse le seuil de compaction, il est mis de côté (renommé) et un
+ * journal neuf prend le relais ; un thread d'arrière-plan écrit alors un instantané de
+ * la file (fichier temporaire puis renommage atomique) qui mémorise le dernier numéro
+ * de séquence couvert, puis supprime l'ancien journal. Sous le verrou, seuls le
+ * renommage, un fsync et la copie des références des éléments sont faits : les
+ * écritures continuent pendant que l'instantané est écrit. La reprise ne rejoue que
+ * les enregistrements postérieurs à l'instantané. Les éléments sont encodés par le
+ * thread de compaction : ils ne doivent pas être modifiés après insertion.
+ *
+ * Un POP rejoué retire le maximum de la file reconstruite : si plusieurs éléments ont
+ * la même priorité, celui qui est retiré peut différer de l'original. Ces éléments
+ * sont considérés comme interchangeables.
+ */
+public class DurableGenPriorityQueue<E extends Comparable<E>> implements Queue<E>, Closeable {
+
+    /**
+     * Conversion d'un élément en octets et inversement
+     */
+    public interface Codec<E> {
+        byte[] encode(E element);
+
+        E decode(byte[] bytes);
+
+        static <E> Codec<E> of(Function<? super E, byte[]> encoder, Function<byte[], ? extends E> decoder) {
+            return new Codec<E>() {
+                @Override
+                public byte[] encode(E element) {
+                    return encoder.apply(element);
+                }
+
+                @Override
+                public E decode(byte[] bytes) {
+                    return decoder.apply(bytes);
+                }
+            };
+        }
+
+        static Codec<String> utf8() {
+            return of(s -> s.getBytes(StandardCharsets.UTF_8), b -> new String(b, StandardCharsets.UTF_8));
+        }
+
+        static Codec<Integer> int32() {
+            return of(i -> ByteBuffer.allocate(4).putInt(i).array(), b -> ByteBuffer.wrap(b).getInt());
+        }
+    }
+
+    /**
+     * Compromis durabilité / débit
+     */
+    public enum Durability {
+        /** Chaque opération attend que son enregistrement soit sur disque (fsync groupés) */
+        FSYNC,
+        /** Enregistrement écrit sans fsync : perdu seulement si la machine s'arrête */
+        WRITE
+    }
+
+    private static final byte INSERT = 1;
+    private static final byte POP = 2;
+    private static final int SNAPSHOT_MAGIC = 0x51534e50; // "QSNP"
+    private static final int HEADER = 4 + 4;              // Longueur + CRC
+    private static final long DEFAULT_COMPACTION_THRESHOLD = 64L * 1024 * 1024;
+
+    private final Path walFile;
+    private final Path oldWalFile;     // Journal mis de côté pendant une compaction
+    private final Path snapshotFile;
+    private final Codec<E> codec;
+    private final Durability durability;
+    private final UnaryOperator<FileChannel> channelDecorator;
+    private final GenPriorityQueue<E> queue = new GenPriorityQueue<>(16);
+    private final CRC32 crc = new CRC32(); // Sous le moniteur uniquement
+    private long compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+
+    // Protégés par le moniteur de l'objet
+    private FileChannel wal;
+    private long appendedSeq;  // Dernière séquence écrite dans le journal
+    private long syncedSeq;    // Dernière séquence garantie sur disque
+    private boolean syncing;   // Un meneur est en train de faire fsync
+    private boolean closed;
+    private IOException failure; // Erreur fatale qui a fermé la file
+    private Compaction compaction; // Compaction en arrière-plan en cours
+    private long compactionTrigger; // Taille du journal courant qui déclenche la prochaine
+
+    /**
+     * Ouvre (ou crée) la file persistée dans directory et rejoue son contenu
+     */
+    public DurableGenPriorityQueue(Path directory, Codec<E> codec, Durability durability) throws IOException {
+        this(directory, codec, durability, UnaryOperator.identity());
+    }
+
+    // channelDecorator enveloppe chaque canal de journal ouvert (injection de pannes en test)
+    DurableGenPriorityQueue(Path directory, Codec<E> codec, Durability durability,
+                            UnaryOperator<FileChannel> channelDecorator) throws IOException {
+        if (directory == null || codec == null || durability == null) {
+            throw new IllegalArgumentException("Les paramètres ne doivent pas être null");
+        }
+        Files.createDirectories(directory);
+        this.walFile = directory.resolve("queue.wal");
+        this.oldWalFile = directory.resolve("queue.wal.old");
+        this.snapshotFile = directory.resolve("queue.snapshot");
+        this.codec = codec;
+        this.durability = durability;
+        this.channelDecorator = channelDecorator;
+
+        long snapshotSeq = loadSnapshot();
+        if (Files.exists(oldWalFile)) {
+            // Compaction interrompue : l'ancien journal précède le journal courant
+            try (FileChannel old = FileChannel.open(oldWalFile, StandardOpenOption.READ)) {
+                replay(old, snapshotSeq);
+            }
+        }
+        this.wal = openWal();
+        long end = replay(wal, snapshotSeq);
+        wal.truncate(end); // Coupe un éventuel enregistrement incomplet
+        wal.position(end);
+        syncedSeq = appendedSeq;
+        compactionTrigger = compactionThreshold;
+    }
+
+    private FileChannel openWal() throws IOException {
+        return channelDecorator.apply(FileChannel.open(walFile,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+    }
+
+    // === Reprise ===
+
+    private long loadSnapshot() throws IOException {
+        if (!Files.exists(snapshotFile)) {
+            return 0;
+        }
+        try (FileChannel in = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(in, 4 + 8 + 4);
+            if (header == null || header.getInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Instantané invalide : " + snapshotFile);
+            }
+            long lastSeq = header.getLong();
+            int count = header.getInt();
+            for (int i = 0; i < count; i++) {
+                byte[] payload = readRecord(in);
+                if (payload == null) {
+                    throw new IOException("Instantané tronqué ou corrompu : " + snapshotFile);
+                }
+                queue.insertElement(codec.decode(payload));
+            }
+            appendedSeq = lastSeq;
+            return lastSeq;
+        }
+    }
+
+    // Rejoue les enregistrements postérieurs à l'instantané ; retourne la fin du préfixe valide
+    private long replay(FileChannel log, long snapshotSeq) throws IOException {
+        log.position(0);
+        long validEnd = 0;
+        byte[] record;
+        while ((record = readRecord(log)) != null) {
+            ByteBuffer body = ByteBuffer.wrap(record);
+            long seq = body.getLong();
+            byte op = body.get();
+            if (seq > snapshotSeq) {
+                if (op == INSERT) {
+                    byte[] payload = new byte[body.remaining()];
+                    body.get(payload);
+                    queue.insertElement(codec.decode(payload));
+                } else if (!queue.isEmpty()) {
+                    queue.popElement();
+                }
+                appendedSeq = seq;
+            }
+            validEnd = log.position();
+        }
+        return validEnd;
+    }
+
+    // Lit [longueur][CRC][corps] ; null en fin de fichier ou si l'enregistrement est abîmé
+    private byte[] readRecord(FileChannel in) throws IOException {
+        ByteBuffer header = readFully(in, HEADER);
+        if (header == null) {
+            return null;
+        }
+        int length = header.getInt();
+        int checksum = header.getInt();
+        if (length <= 0 || length > in.size() - in.position()) {
+            return null;
+        }
+        ByteBuffer body = readFully(in, length);
+        if (body == null) {
+            return null;
+        }
+        crc.reset();
+        crc.update(body.array(), 0, length);
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+        return body.array();
+    }
+
+    private static ByteBuffer readFully(FileChannel in, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                return null;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    // === Journalisation ===
+
+    @Override
+    public boolean insertElement(E e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
+        }
+        byte[] payload = codec.encode(e);
+        // Une E/S faite par un thread interrompu fermerait le canal du journal
+        boolean interrupted = Thread.interrupted();
+        try {
+            long seq;
+            synchronized (this) {
+                checkOpen();
+                seq = append(INSERT, payload);
+                queue.insertElement(e);
+            }
+            interrupted |= awaitDurable(seq);
+            maybeCompact();
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public E popElement() {
+        E element;
+        boolean interrupted = Thread.interrupted();
+        try {
+            long seq;
+            synchronized (this) {
+                checkOpen();
+                if (queue.isEmpty()) {
+                    throw new NoSuchElementException("La file est vide");
+                }
+                seq = append(POP, new byte[0]);
+                element = queue.popElement();
+            }
+            interrupted |= awaitDurable(seq);
+            maybeCompact();
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return element;
+    }
+
+    // Écrit un enregistrement à la fin du journal (appelé sous le moniteur) ; en cas
+    // d'échec, le journal est ramené à sa taille d'avant, sinon la file est fermée
+    private long append(byte op, byte[] payload) {
+        long seq = appendedSeq + 1;
+        int length = 8 + 1 + payload.length;
+        ByteBuffer record = ByteBuffer.allocate(HEADER + length);
+        record.position(HEADER);
+        record.putLong(seq).put(op).put(payload);
+        crc.reset();
+        crc.update(record.array(), HEADER, length);
+        record.putInt(0, length).putInt(4, (int) crc.getValue());
+        record.flip();
+        long start;
+        try {
+            start = wal.position();
+        } catch (IOException ex) {
+            fail(ex);
+            throw new UncheckedIOException(ex);
+        }
+        try {
+            writeFully(wal, record);
+        } catch (IOException ex) {
+            try {
+                wal.truncate(start);
+                wal.position(start);
+            } catch (IOException again) {
+                ex.addSuppressed(again);
+                fail(ex); // Enregistrement partiel impossible à retirer : rien ne doit le suivre
+            }
+            throw new UncheckedIOException(ex);
+        }
+        appendedSeq = seq;
+        return seq;
+    }
+
+    // Group commit : un seul fsync à la fois, qui couvre tout ce qui a été écrit avant lui ;
+    // retourne true si le thread a été interrompu pendant l'attente
+    private boolean awaitDurable(long seq) {
+        if (durability != Durability.FSYNC) {
+            return false;
+        }
+        boolean interrupted = false;
+        long target;
+        FileChannel channel;
+        synchronized (this) {
+            while (true) {
+                if (syncedSeq >= seq) {
+                    return interrupted;
+                }
+                if (failure != null) {
+                    throw new UncheckedIOException(failure);
+                }
+                if (!syncing) {
+                    syncing = true;
+                    target = appendedSeq; // >= seq
+                    channel = wal;
+                    break;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException ex) {
+                    interrupted = true; // L'opération est déjà journalisée : aller au bout
+                }
+            }
+        }
+        IOException error = null;
+        try {
+            channel.force(false); // Hors du moniteur : les autres threads continuent d'écrire
+        } catch (IOException ex) {
+            error = ex;
+        }
+        synchronized (this) {
+            syncing = false;
+            if (error == null) {
+                syncedSeq = Math.max(syncedSeq, target);
+            } else {
+                fail(error);
+            }
+            notifyAll();
+        }
+        if (error != null) {
+            throw new UncheckedIOException(error);
+        }
+        return interrupted;
+    }
+
+    // Erreur d'E/S fatale : ferme la file (appelé sous le moniteur)
+    private void fail(IOException ex) {
+        if (failure == null) {
+            failure = ex;
+        }
+        closed = true;
+        try {
+            wal.close();
+        } catch (IOException ignored) {
+            // Déjà en échec
+        }
+        notifyAll();
+    }
+
+    // === Compaction ===
+
+    /**
+     * Seuil (en octets de journal) au-delà duquel la file est compactée automatiquement
+     */
+    public synchronized void setCompactionThreshold(long bytes) {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("Le seuil doit être positif");
+        }
+        compactionThreshold = bytes;
+        compactionTrigger = bytes;
+    }
+
+    private void maybeCompact() {
+        synchronized (this) {
+            try {
+                if (!closed && compaction == null && wal.position() > compactionTrigger) {
+                    startCompaction();
+                }
+            } catch (IOException ex) {
+                fail(ex);
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Écrit un instantané de toute la file puis supprime le journal qu'il couvre, et
+     * attend la fin de l'opération (les autres threads continuent d'écrire pendant ce temps)
+     */
+    public void compact() throws IOException {
+        Compaction running;
+        boolean interrupted = Thread.interrupted();
+        try {
+            synchronized (this) {
+                checkOpen();
+                while (compaction != null) {
+                    awaitUninterruptibly(); // Une seule compaction à la fois
+                }
+                running = startCompaction();
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        running.await();
+        if (running.error != null) {
+            throw running.error;
+        }
+    }
+
+    // Met le journal courant de côté et lance l'écriture de l'instantané (sous le moniteur)
+    private Compaction startCompaction() throws IOException {
+        while (syncing) {
+            awaitUninterruptibly(); // Laisser le meneur finir son fsync sur le journal courant
+        }
+        if (!Files.exists(oldWalFile)) {
+            // Le journal courant devient l'ancien journal ; un fsync suffit à le rendre durable
+            try {
+                wal.force(false);
+                syncedSeq = appendedSeq;
+                wal.close();
+                Files.move(walFile, oldWalFile, StandardCopyOption.ATOMIC_MOVE);
+                wal = openWal();
+            } catch (IOException ex) {
+                fail(ex); // Plus de journal utilisable
+                throw ex;
+            }
+        }
+        // Sinon une compaction précédente a échoué : l'ancien journal est encore là et le
+        // nouvel instantané, plus récent, le couvrira aussi
+        List<E> elements = new ArrayList<>(queue.size());
+        for (E element : queue) {
+            elements.add(element);
+        }
+        compaction = new Compaction(elements, appendedSeq);
+        Thread thread = new Thread(compaction, "queue-compaction");
+        thread.setDaemon(true);
+        thread.start();
+        return compaction;
+    }
+
+    private void awaitUninterruptibly() {
+        try {
+            wait();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Écriture d'un instantané en arrière-plan
+    private final class Compaction implements Runnable {
+        private final List<E> elements;
+        private final long lastSeq;
+        private IOException error;
+        private boolean done;
+
+        Compaction(List<E> elements, long lastSeq) {
+            this.elements = elements;
+            this.lastSeq = lastSeq;
+        }
+
+        @Override
+        public void run() {
+            IOException result = null;
+            try {
+                writeSnapshot(elements, lastSeq);
+                // Un crash avant cette suppression laisse un journal déjà couvert : ignoré
+                Files.deleteIfExists(oldWalFile);
+            } catch (IOException | RuntimeException ex) {
+                result = ex instanceof IOException ? (IOException) ex : new IOException(ex);
+            }
+            synchronized (DurableGenPriorityQueue.this) {
+                error = result;
+                done = true;
+                compaction = null;
+                if (result != null) {
+                    // Ne pas retenter à chaque opération : attendre un nouveau seuil de journal
+                    try {
+                        compactionTrigger = wal.position() + compactionThreshold;
+                    } catch (IOException ignored) {
+                        // Journal fermé : la file l'est aussi
+                    }
+                } else {
+                    compactionTrigger = compactionThreshold;
+                }
+                DurableGenPriorityQueue.this.notifyAll();
+            }
+        }
+
+        void await() {
+            synchronized (DurableGenPriorityQueue.this) {
+                while (!done) {
+                    awaitUninterruptibly();
+                }
+            }
+        }
+    }
+
+    private void writeSnapshot(List<E> elements, long lastSeq) throws IOException {
+        CRC32 checksum = new CRC32(); // crc appartient au moniteur
+        Path temp = snapshotFile.resolveSibling("queue.snapshot.tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(4 + 8 + 4);
+            header.putInt(SNAPSHOT_MAGIC).putLong(lastSeq).putInt(elements.size()).flip();
+            writeFully(out, header);
+            for (E element : elements) {
+                byte[] payload = codec.encode(element);
+                ByteBuffer record = ByteBuffer.allocate(HEADER + payload.length);
+                checksum.reset();
+                checksum.update(payload, 0, payload.length);
+                record.putInt(payload.length).putInt((int) checksum.getValue()).put(payload).flip();
+                writeFully(out, record);
+            }
+            out.force(true);
+        }
+        Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Taille actuelle du journal courant en octets
+     */
+    public synchronized long logSize() throws IOException {
+        return wal.size();
+    }
+
+    /**
+     * Indique si une compaction est en cours en arrière-plan
+     */
+    public synchronized boolean isCompacting() {
+        return compaction != null;
+    }
+
+    public Durability durability() {
+        return durability;
+    }
+
+    private void checkOpen() {
+        if (failure != null) {
+            throw new IllegalStateException("La file a été fermée après une erreur d'E/S", failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("La file est fermée");
+        }
+    }
+
+    // === Lecture (en mémoire) ===
+
+    @Override
+    public synchronized E element() {
+        return queue.element();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * Itérateur sur les éléments dans l'ordre du tas (non synchronisé)
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return queue.iterator();
+    }
+
+    /**
+     * Attend la fin d'une éventuelle compaction, force le journal sur disque puis le ferme
+     */
+    @Override
+    public void close() throws IOException {
+        Compaction running;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            running = compaction;
+        }
+        if (running != null) {
+            running.await();
+        }
+        boolean interrupted = Thread.interrupted();
+        try {
+            synchronized (this) {
+                while (syncing) {
+                    awaitUninterruptibly();
+                }
+                try {
+                    wal.force(false);
+                } catch (IOException ex) {
+                    fail(ex); // Les appelants en attente de fsync reçoivent l'erreur
+                    throw ex;
+                }
+                // Ce fsync couvre tout le journal : les appelants FSYNC encore en attente
+                // n'ont plus à forcer un canal qui va être fermé
+                syncedSeq = appendedSeq;
+                wal.close();
+                notifyAll();
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package container;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Décorateur "flat combining" qui rend thread-safe n'importe quelle Queue<E> séquentielle
+ * (IntFIFO, IntPriorityQueue, GenPriorityQueue...) sans la modifier
+ *
+ * Chaque thread publie son opération dans un emplacement qui lui est propre. Le thread
+ * qui obtient le verrou devient "combineur" : il parcourt tous les emplacements et
+ * applique d'un coup les opérations en attente sur la file décorée, pendant que les
+ * autres attendent activement leur résultat. La file décorée n'est donc touchée que par
+ * un thread à la fois, qui garde ses lignes de cache chaudes, et le verrou ne change de
+ * main qu'une fois par lot au lieu d'une fois par opération.
+ *
+ * Dans un lot, les insertions sont appliquées avant les autres opérations : elles sont
+ * concurrentes, donc cet ordre est linéarisable, et un retrait du même lot peut ainsi
+ * servir directement un élément tout juste inséré.
+ *
+ * Comme dans l'article d'origine (Hendler et al.), chaque emplacement garde l'âge de sa
+ * dernière utilisation, compté en lots : toutes les CLEANUP_PERIOD combinaisons, le
+ * combineur retire de la liste les emplacements inutilisés depuis plus de MAX_AGE lots
+ * (threads terminés ou inactifs). Un thread dont l'emplacement a été retiré le remet
+ * dans la liste, sous le verrou, à sa prochaine opération.
+ *
+ * @param <E> Le type des éléments de la file décorée
+ */
+public class FlatCombiningQueue<E> implements Queue<E> {
+
+    // Opérations publiables
+    private static final int INSERT = 1;
+    private static final int ELEMENT = 2;
+    private static final int POP = 3;
+    private static final int SIZE = 4;
+    private static final int SNAPSHOT = 5;
+
+    private static final int COMBINING_PASSES = 2; // Parcours des emplacements par lot
+    private static final int CLEANUP_PERIOD = 64;  // Lots entre deux nettoyages
+    private static final int MAX_AGE = 256;        // Lots sans opération avant retrait
+
+    private final Queue<E> delegate;
+    private final AtomicBoolean lock = new AtomicBoolean();
+    private final List<Slot<E>> slots = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Slot<E>> localSlot = ThreadLocal.withInitial(Slot::new);
+    private int combiningRound; // Nombre de lots, modifié par le seul combineur
+
+    public FlatCombiningQueue(Queue<E> delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("La file décorée ne doit pas être null");
+        }
+        this.delegate = delegate;
+    }
+
+    // Remet dans la liste un emplacement neuf ou retiré par le nettoyage (verrou tenu)
+    private void register(Slot<E> slot) {
+        slot.active = true;
+        slots.add(slot);
+    }
+
+    /**
+     * Nombre d'emplacements actuellement parcourus par le combineur
+     */
+    int slotCount() {
+        return slots.size();
+    }
+
+    @Override
+    public boolean insertElement(E e) {
+        return (Boolean) execute(INSERT, e);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E element() {
+        return (E) execute(ELEMENT, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E popElement() {
+        return (E) execute(POP, null);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        return (Integer) execute(SIZE, null);
+    }
+
+    /**
+     * Itérateur sur un instantané de la file, pris de façon atomique
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Iterator<E> iterator() {
+        return ((List<E>) execute(SNAPSHOT, null)).iterator();
+    }
+
+    // Publie l'opération puis attend qu'un combineur (éventuellement soi-même) l'applique
+    private Object execute(int operation, E argument) {
+        Slot<E> slot = localSlot.get();
+        slot.operation = operation;
+        slot.argument = argument;
+        slot.pending = true; // Écriture volatile : publie operation et argument
+
+        while (slot.pending) {
+            if (!lock.get() && lock.compareAndSet(false, true)) {
+                try {
+                    if (!slot.active) {
+                        // Emplacement neuf, ou retiré par un nettoyage que notre publication
+                        // a pu croiser : réinscription sous le verrou, jamais pendant un nettoyage
+                        register(slot);
+                    }
+                    combine();
+                } finally {
+                    lock.set(false);
+                }
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+
+        Throwable error = slot.error;
+        Object result = slot.result;
+        slot.argument = null;
+        slot.result = null;
+        slot.error = null;
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        if (error != null) {
+            throw new IllegalStateException(error); // Exception vérifiée levée sans être déclarée
+        }
+        return result;
+    }
+
+    private void combine() {
+        combiningRound++;
+        for (int pass = 0; pass < COMBINING_PASSES; pass++) {
+            // Les insertions d'abord, puis les lectures et retraits
+            for (Slot<E> slot : slots) {
+                if (slot.pending && slot.operation == INSERT) {
+                    apply(slot);
+                }
+            }
+            for (Slot<E> slot : slots) {
+                if (slot.pending) {
+                    apply(slot);
+                }
+            }
+        }
+        if (combiningRound % CLEANUP_PERIOD == 0) {
+            removeIdleSlots();
+        }
+    }
+
+    // Retire les emplacements sans opération depuis plus de MAX_AGE lots ; active passe à
+    // false, pour qu'un propriétaire qui publie entre-temps se réinscrive
+    private void removeIdleSlots() {
+        List<Slot<E>> idle = new ArrayList<>();
+        for (Slot<E> slot : slots) {
+            if (!slot.pending && combiningRound - slot.age > MAX_AGE) {
+                slot.active = false;
+                idle.add(slot);
+            }
+        }
+        if (!idle.isEmpty()) {
+            slots.removeAll(idle);
+        }
+    }
+
+    private void apply(Slot<E> slot) {
+        try {
+            switch (slot.operation) {
+                case INSERT:
+                    slot.result = delegate.insertElement(slot.argument);
+                    break;
+                case ELEMENT:
+                    slot.result = delegate.element();
+                    break;
+                case POP:
+                    slot.result = delegate.popElement();
+                    break;
+                case SIZE:
+                    slot.result = delegate.size();
+                    break;
+                default:
+                    List<E> snapshot = new ArrayList<>(delegate.size());
+                    for (E element : delegate) {
+                        snapshot.add(element);
+                    }
+                    slot.result = snapshot;
+                    break;
+            }
+        } catch (Throwable e) {
+            // Relancée dans le thread qui a publié l'opération, Error comprise : sinon
+            // l'emplacement resterait en attente et son propriétaire attendrait sans fin
+            slot.error = e;
+        }
+        slot.age = combiningRound;
+        slot.pending = false; // Écriture volatile : publie result et error
+    }
+
+    /**
+     * Retourne une représentation en chaîne d'un instantané de la file
+     */
+    @Override
+    public String toString() {
+        return execute(SNAPSHOT, null).toString();
+    }
+
+    /**
+     * Emplacement de publication propre à un thread
+     */
+    private static final class Slot<E> {
+        int operation;
+        E argument;
+        Object result;
+        Throwable error;
+        int age;                 // Dernier lot où une opération a été appliquée
+        volatile boolean pending;
+        volatile boolean active; // Présent dans la liste des emplacements
+    }
+}
@@ -1,7 +1,13 @@
 package container;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 
 /**
  * Implémentation générique d'une file de priorité utilisant un tas (heap) binaire
@@ -11,10 +17,30 @@ import java.util.NoSuchElementException;
 // Utilise un paramètre de type E qui doit être Comparable avec lui-même (E extends Comparable<E>)
 public class GenPriorityQueue<E extends Comparable<E>> implements Queue<E> {
     
+    // Nombre de cases recopiées par opération pendant un redimensionnement incrémental
+    private static final int MIGRATION_STEP = 64;
+    
     private E[] heap; // Tableau typé E[] au lieu d'Object[]
     private int size;
     private int capacity;
     
+    // Mode "clés en cache" : clés primitives extraites à l'insertion, rangées
+    // à la même position que leur élément (null si le mode n'est pas actif)
+    private final ToLongFunction<? super E> keyExtractor;
+    private long[] keys;
+    
+    // Redimensionnement incrémental : pendant une migration, les cases [migrated, oldHeap.length)
+    // sont encore dans oldHeap (et oldKeys), les autres dans heap
+    private boolean incrementalResize;
+    private E[] oldHeap;
+    private long[] oldKeys;
+    private int migrated;
+    
+    // Insertion paresseuse : seules les cases [0, heapSize) respectent la propriété de tas,
+    // les cases [heapSize, size) sont des insertions en attente, non triées
+    private boolean lazyInsertion;
+    private int heapSize;
+    
     public GenPriorityQueue(int capacity) {
         if (capacity <= 0) {
             throw new IllegalArgumentException("La capacité doit être positive");
@@ -22,6 +48,78 @@ public class GenPriorityQueue<E extends Comparable<E>> implements Queue<E> {
         this.capacity = capacity;
         this.size = 0;
         this.heap = (E[]) new Comparable[capacity]; // Cast une seule fois ici
+        this.keyExtractor = null;
+        this.keys = null;
+    }
+    
+    /**
+     * Crée une file ordonnée par une clé primitive extraite une seule fois par élément
+     * Les tamisages comparent alors des long au lieu d'appeler compareTo,
+     * la plus grande clé sort en premier
+     */
+    public GenPriorityQueue(int capacity, ToLongFunction<? super E> keyExtractor) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("L'extracteur de clé ne doit pas être null");
+        }
+        this.capacity = capacity;
+        this.size = 0;
+        this.heap = (E[]) new Comparable[capacity];
+        this.keyExtractor = keyExtractor;
+        this.keys = new long[capacity];
+    }
+    
+    // Adopte un tableau qui respecte déjà la propriété de tas sur [0, size)
+    private GenPriorityQueue(E[] heap, int size) {
+        this.capacity = heap.length;
+        this.size = size;
+        this.heapSize = size;
+        this.heap = heap;
+        this.keyExtractor = null;
+        this.keys = null;
+    }
+    
+    /**
+     * Construit une file contenant tous les éléments donnés, en O(n), en construisant
+     * les sous-arbres indépendants en parallèle (ForkJoin) puis les niveaux hauts
+     */
+    public static <E extends Comparable<E>> GenPriorityQueue<E> buildParallel(Collection<? extends E> elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("La collection ne doit pas être null");
+        }
+        Object[] source = elements.toArray();
+        int n = source.length;
+        E[] heap = (E[]) new Comparable[Math.max(1, n)];
+        for (int i = 0; i < n; i++) {
+            if (source[i] == null) {
+                throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
+            }
+            heap[i] = (E) source[i];
+        }
+        ParallelHeaps.heapify(heap, n, Comparator.naturalOrder());
+        return new GenPriorityQueue<>(heap, n);
+    }
+    
+    /**
+     * Retourne les k plus grands éléments (selon l'ordre de la file, clés en cache
+     * comprises), du plus grand au plus petit, sans les retirer
+     */
+    public List<E> topK(int k) {
+        restoreHeap();
+        if (keys == null) {
+            return ParallelHeaps.topK(this::get, size, k, Comparator.naturalOrder());
+        }
+        // Clés en cache : on sélectionne des positions comparées par leur clé, sans
+        // rappeler l'extracteur, puis on lit les éléments correspondants
+        List<Integer> positions = ParallelHeaps.topK(i -> i, size, k,
+            (i, j) -> Long.compare(getKey(i), getKey(j)));
+        List<E> result = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            result.add(get(position));
+        }
+        return result;
     }
     
     public boolean insertElement(E element) {
@@ -29,29 +127,180 @@ public class GenPriorityQueue<E extends Comparable<E>> implements Queue<E> {
             throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
         }
         
+        if (oldHeap != null) {
+            migrateStep();
+        }
+        
         if (size == capacity) {
             resize();
         }
         
         // Ajouter l'élément à la fin du tas
-        heap[size] = element;
+        set(size, element);
+        if (keys != null) {
+            setKey(size, keyExtractor.applyAsLong(element));
+        }
         size++;
         
+        if (lazyInsertion) {
+            return true; // Simple rangement : le tas sera rétabli au prochain accès à la tête
+        }
+        
         // Réorganiser le tas pour maintenir la propriété
         heapifyUp(size - 1);
+        heapSize = size;
         
         return true;
     }
     
+    /**
+     * Active ou désactive l'insertion paresseuse
+     * 
+     * Active, une insertion se contente de ranger l'élément après le tas ; la propriété
+     * de tas n'est rétablie qu'au prochain element(), popElement() ou topK(), en bloc :
+     * reconstruction de Floyd en O(n) si les insertions en attente sont nombreuses,
+     * sinon remontée de chacune. Utile pour une phase de chargement suivie de retraits.
+     */
+    public void setLazyInsertion(boolean enabled) {
+        if (!enabled) {
+            restoreHeap();
+        }
+        lazyInsertion = enabled;
+    }
+    
+    // Intègre au tas les insertions en attente
+    private void restoreHeap() {
+        int pending = size - heapSize;
+        if (pending == 0) {
+            return;
+        }
+        // Remonter chaque élément coûte ~log2(size) ; Floyd coûte ~size au total
+        int log = 32 - Integer.numberOfLeadingZeros(size);
+        if ((long) pending * log > size) {
+            heapify();
+        } else {
+            for (int i = heapSize; i < size; i++) {
+                heapifyUp(i);
+            }
+        }
+        heapSize = size;
+    }
+    
     private void resize() {
+        if (incrementalResize) {
+            startMigration();
+            return;
+        }
         int newCapacity = capacity + 1;
         E[] newHeap = (E[]) new Comparable[newCapacity];
         System.arraycopy(heap, 0, newHeap, 0, size);
         heap = newHeap;
+        if (keys != null) {
+            long[] newKeys = new long[newCapacity];
+            System.arraycopy(keys, 0, newKeys, 0, size);
+            keys = newKeys;
+        }
         capacity = newCapacity;
     }
+    
+    /**
+     * Active ou désactive le redimensionnement incrémental
+     * 
+     * Actif, un redimensionnement double la capacité sans rien recopier sur le moment :
+     * les cases (et leurs clés en cache) passent dans le nouveau tableau par lots de
+     * MIGRATION_STEP à chaque insertion ou retrait, les lectures consultant l'ancien
+     * tableau tant qu'une case n'est pas migrée
+     */
+    public void setIncrementalResize(boolean enabled) {
+        if (!enabled) {
+            finishMigration();
+        }
+        incrementalResize = enabled;
+    }
+    
+    /**
+     * Indique si une migration incrémentale est en cours
+     */
+    public boolean isResizing() {
+        return oldHeap != null;
+    }
+    
+    private void startMigration() {
+        finishMigration();
+        int newCapacity = capacity * 2;
+        oldHeap = heap;
+        heap = (E[]) new Comparable[newCapacity];
+        if (keys != null) {
+            oldKeys = keys;
+            keys = new long[newCapacity];
+        }
+        capacity = newCapacity;
+        migrated = 0;
+    }
+    
+    // Recopie le lot de cases suivant ; seules les cases occupées sont utiles
+    private void migrateStep() {
+        int end = Math.min(oldHeap.length, size);
+        int stop = Math.min(end, migrated + MIGRATION_STEP);
+        if (stop > migrated) {
+            System.arraycopy(oldHeap, migrated, heap, migrated, stop - migrated);
+            if (keys != null) {
+                System.arraycopy(oldKeys, migrated, keys, migrated, stop - migrated);
+            }
+            migrated = stop;
+        }
+        if (migrated >= end) {
+            oldHeap = null;
+            oldKeys = null;
+        }
+    }
+    
+    private void finishMigration() {
+        while (oldHeap != null) {
+            migrateStep();
+        }
+    }
+    
+    // Vrai si la case i n'a pas encore quitté l'ancien tableau
+    private boolean inOldHeap(int i) {
+        return oldHeap != null && i >= migrated && i < oldHeap.length;
+    }
+    
+    private E get(int i) {
+        return inOldHeap(i) ? oldHeap[i] : heap[i];
+    }
+    
+    private void set(int i, E element) {
+        if (inOldHeap(i)) {
+            oldHeap[i] = element;
+        } else {
+            heap[i] = element;
+        }
+    }
+    
+    private long getKey(int i) {
+        return inOldHeap(i) ? oldKeys[i] : keys[i];
+    }
+    
+    private void setKey(int i, long key) {
+        if (inOldHeap(i)) {
+            oldKeys[i] = key;
+        } else {
+            keys[i] = key;
+        }
+    }
 
+    // Les tamisages accèdent directement aux tableaux ; pendant une migration seulement,
+    // ils passent par les accesseurs (variantes ...DuringMigration)
     private void heapifyUp(int index) {
+        if (oldHeap != null) {
+            heapifyUpDuringMigration(index);
+            return;
+        }
+        if (keys != null) {
+            heapifyUpByKey(index);
+            return;
+        }
         while (index > 0) {
             int parentIndex = (index - 1) / 2;
             
@@ -69,6 +318,23 @@ public class GenPriorityQueue<E extends Comparable<E>> implements Queue<E> {
         }
     }
 
+    // Variante de heapifyUp qui ne compare que les clés en cache
+    private void heapifyUpByKey(int index) {
+        E element = heap[index];
+        long key = keys[index];
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            if (key <= keys[parentIndex]) {
+                break;
+            }
+            heap[index] = heap[parentIndex];
+            keys[index] = keys[parentIndex];
+            index = parentIndex;
+        }
+        heap[index] = element;
+        keys[index] = key;
+    }
+
     private void swap(int i, int j) {
         E temp = heap[i]; 
         heap[i] = heap[j];
@@ -80,7 +346,8 @@ public class GenPriorityQueue<E extends Comparable<E>> implements Queue<E> {
         if (isEmpty()) {
             throw new NoSuchElementException("La file est vide");
         }
-        return heap[0]; 
+        restoreHeap();
+        return get(0); 
     }
     
     @Override
@@ -89,23 +356,39 @@ public class GenPriorityQueue<E extends Comparable<E>> implements Queue<E> {
             throw new NoSuchElementException("La file est vide");
         }
         
-        E maxElement = heap[0]; 
+        if (oldHeap != null) {
+            migrateStep();
+        }
+        restoreHeap();
+        
+        E maxElement = get(0); 
         
         if (size == 1) {
-            heap[0] = null;
+            set(0, null);
             size = 0;
         } else {
-            heap[0] = heap[size - 1]; 
-            heap[size - 1] = null;
+            set(0, get(size - 1)); 
+            set(size - 1, null);
+            if (keys != null) {
+                setKey(0, getKey(size - 1));
+            }
             size--;
-            heapifyDown();
+            heapifyDown(0);
         }
+        heapSize = size;
         
         return maxElement;
     }
 
-    private void heapifyDown() {
-        int index = 0;
+    private void heapifyDown(int index) {
+        if (oldHeap != null) {
+            heapifyDownDuringMigration(index);
+            return;
+        }
+        if (keys != null) {
+            heapifyDownByKey(index);
+            return;
+        }
         while (true) {
             int biggest = index;
             int leftChild = 2 * index + 1;
@@ -140,6 +423,145 @@ public class GenPriorityQueue<E extends Comparable<E>> implements Queue<E> {
             index = biggest;
         }
     }
+
+    // Variante de heapifyDown qui ne compare que les clés en cache :
+    // les éléments ne sont lus que pour être déplacés
+    private void heapifyDownByKey(int index) {
+        E element = heap[index];
+        long key = keys[index];
+        int half = size / 2; // Les indices >= half sont des feuilles
+        while (index < half) {
+            int child = 2 * index + 1;
+            int rightChild = child + 1;
+            if (rightChild < size && keys[rightChild] > keys[child]) {
+                child = rightChild;
+            }
+            if (key >= keys[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            keys[index] = keys[child];
+            index = child;
+        }
+        heap[index] = element;
+        keys[index] = key;
+    }
+    
+    // Tamisages pendant une migration : chaque case est lue et écrite par les accesseurs,
+    // qui savent si elle est encore dans l'ancien tableau (clés en cache comprises)
+    private void heapifyUpDuringMigration(int index) {
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            if (!higher(index, parentIndex)) {
+                break;
+            }
+            swapDuringMigration(index, parentIndex);
+            index = parentIndex;
+        }
+    }
+    
+    private void heapifyDownDuringMigration(int index) {
+        while (2 * index + 1 < size) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && higher(child + 1, child)) {
+                child++;
+            }
+            if (!higher(child, index)) {
+                break;
+            }
+            swapDuringMigration(index, child);
+            index = child;
+        }
+    }
+    
+    // Vrai si la case i passe strictement avant la case j dans l'ordre de la file
+    private boolean higher(int i, int j) {
+        return keys != null ? getKey(i) > getKey(j) : get(i).compareTo(get(j)) > 0;
+    }
+    
+    private void swapDuringMigration(int i, int j) {
+        E temp = get(i);
+        set(i, get(j));
+        set(j, temp);
+        if (keys != null) {
+            long key = getKey(i);
+            setKey(i, getKey(j));
+            setKey(j, key);
+        }
+    }
+    
+    /**
+     * Retire tous les éléments qui vérifient le filtre
+     * Le filtre est d'abord évalué sur tous les éléments (résultats notés dans un
+     * ensemble de bits), puis le tableau est compacté en une passe et le tas reconstruit
+     * de bas en haut (construction de Floyd), soit O(n) au total quel que soit le nombre
+     * de retraits. Si le filtre lève une exception, la file n'a pas été modifiée.
+     * 
+     * @return true si au moins un élément a été retiré
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Le filtre ne doit pas être null");
+        }
+        finishMigration(); // Le compactage parcourt tout le tableau de toute façon
+        long[] removed = new long[(size + 63) >>> 6];
+        boolean any = false;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(heap[i])) {
+                removed[i >>> 6] |= 1L << i;
+                any = true;
+            }
+        }
+        if (!any) {
+            return false;
+        }
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((removed[i >>> 6] & (1L << i)) == 0) {
+                heap[kept] = heap[i];
+                if (keys != null) {
+                    keys[kept] = keys[i];
+                }
+                kept++;
+            }
+        }
+        // Libérer les références au-delà de la partie conservée
+        for (int i = kept; i < size; i++) {
+            heap[i] = null;
+        }
+        size = kept;
+        heapify();
+        heapSize = size;
+        return true;
+    }
+    
+    /**
+     * Retire tous les éléments contenus dans la collection donnée, en O(n)
+     * (plus le coût de contains sur la collection, à préférer en HashSet)
+     */
+    public boolean removeAll(Collection<?> c) {
+        if (c == null) {
+            throw new IllegalArgumentException("La collection ne doit pas être null");
+        }
+        return removeIf(c::contains);
+    }
+    
+    /**
+     * Ne garde que les éléments contenus dans la collection donnée, en O(n)
+     */
+    public boolean retainAll(Collection<?> c) {
+        if (c == null) {
+            throw new IllegalArgumentException("La collection ne doit pas être null");
+        }
+        return removeIf(element -> !c.contains(element));
+    }
+    
+    // Reconstruit le tas de bas en haut : chaque nœud interne est redescendu
+    private void heapify() {
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            heapifyDown(i);
+        }
+    }
     
     @Override
     public boolean isEmpty() {
@@ -178,7 +600,7 @@ public class GenPriorityQueue<E extends Comparable<E>> implements Queue<E> {
                 throw new NoSuchElementException("Aucun élément suivant");
             }
             
-            E element = heap[currentIndex]; 
+            E element = get(currentIndex); 
             currentIndex++;
             return element;
         }
@@ -202,7 +624,7 @@ public class GenPriorityQueue<E extends Comparable<E>> implements Queue<E> {
             if (i > 0) {
                 sb.append(", ");
             }
-            sb.append(heap[i]);
+            sb.append(get(i));
         }
         
         // Afficher les emplacements vides restants
@@ -9,11 +9,23 @@ import java.util.NoSuchElementException;
  */
 public class IntFIFO implements Queue<Integer> {
     
+    // Nombre de cases recopiées par opération pendant un redimensionnement incrémental
+    private static final int MIGRATION_STEP = 64;
+    
     private Integer[] array;
     private int front;      // Index du premier élément
     private int rear;       // Index du dernier élément
     private int size;       // Nombre d'éléments dans la file
     private int capacity;   // Capacité maximale du tableau
+    
+    // Redimensionnement incrémental : la position p du nouveau tableau, pour p dans
+    // [migrated, oldCount), est encore lue dans oldArray à l'indice (oldFront + p) % oldCapacity
+    private boolean incrementalResize;
+    private Integer[] oldArray;
+    private int oldFront;
+    private int oldCapacity;
+    private int oldCount;
+    private int migrated;
  
     public IntFIFO(int capacity) {
         if (capacity <= 0) {
@@ -32,12 +44,16 @@ public class IntFIFO implements Queue<Integer> {
             throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
         }
         
+        if (oldArray != null) {
+            migrateStep();
+        }
+        
         // Si la file est pleine
         if (size == capacity) {
             resize();
         }
         
-        // Calculer la nouvelle position rear
+        // Calculer la nouvelle position rear (toujours au-delà des cases en migration)
         rear = (rear + 1) % capacity;
         array[rear] = e;
         size++;
@@ -46,6 +62,10 @@ public class IntFIFO implements Queue<Integer> {
     }
 
     private void resize() {
+        if (incrementalResize) {
+            startMigration();
+            return;
+        }
         int newCapacity = capacity + 1; 
         Integer[] newArray = new Integer[newCapacity];
         
@@ -65,12 +85,76 @@ public class IntFIFO implements Queue<Integer> {
         rear = size - 1;  // Rear pointe vers le dernier élément
     }
     
+    /**
+     * Active ou désactive le redimensionnement incrémental
+     * 
+     * Actif, un redimensionnement alloue le tableau doublé sans rien recopier : les
+     * éléments y sont déplacés par lots de MIGRATION_STEP à chaque insertion ou retrait,
+     * et les lectures vont chercher dans l'ancien tableau ceux qui n'ont pas encore migré.
+     * Aucune insertion ne paie donc la copie complète de la file.
+     */
+    public void setIncrementalResize(boolean enabled) {
+        if (!enabled) {
+            finishMigration();
+        }
+        incrementalResize = enabled;
+    }
+    
+    /**
+     * Indique si une migration incrémentale est en cours
+     */
+    public boolean isResizing() {
+        return oldArray != null;
+    }
+    
+    private void startMigration() {
+        finishMigration();
+        oldArray = array;
+        oldFront = front;
+        oldCapacity = capacity;
+        oldCount = size;
+        migrated = 0;
+        
+        // Même disposition qu'un redimensionnement classique : l'élément logique i en position i
+        capacity = capacity * 2;
+        array = new Integer[capacity];
+        front = 0;
+        rear = size - 1;
+    }
+    
+    // Recopie le lot suivant ; les positions déjà retirées (avant front) sont sautées
+    private void migrateStep() {
+        int start = Math.max(migrated, front);
+        int stop = Math.min(oldCount, start + MIGRATION_STEP);
+        for (int p = start; p < stop; p++) {
+            array[p] = oldArray[(oldFront + p) % oldCapacity];
+        }
+        migrated = Math.max(start, stop);
+        if (migrated >= oldCount) {
+            oldArray = null;
+        }
+    }
+    
+    private void finishMigration() {
+        while (oldArray != null) {
+            migrateStep();
+        }
+    }
+    
+    // Lecture d'une position du tableau courant, en tenant compte de la migration
+    private Integer slot(int p) {
+        if (oldArray != null && p >= migrated && p < oldCount) {
+            return oldArray[(oldFront + p) % oldCapacity];
+        }
+        return array[p];
+    }
+    
     @Override
     public Integer element() {
         if (isEmpty()) {
             throw new NoSuchElementException("La file est vide");
         }
-        return array[front];
+        return slot(front);
     }
     
     @Override
@@ -79,8 +163,12 @@ public class IntFIFO implements Queue<Integer> {
             throw new NoSuchElementException("La file est vide");
         }
         
-        Integer element = array[front];
-        array[front] = null; // Libérer la référence
+        if (oldArray != null) {
+            migrateStep();
+        }
+        
+        Integer element = slot(front);
+        array[front] = null; // Libérer la référence (l'ancienne case ne sera plus migrée)
         front = (front + 1) % capacity;
         size--;
         
@@ -126,7 +214,7 @@ public class IntFIFO implements Queue<Integer> {
             } 
             
             // parcourt circulaire donc on utilise le modulo
-            Integer element = array[(front + currentIndex) % capacity];
+            Integer element = slot((front + currentIndex) % capacity);
             currentIndex++;
             elementsCounted++;
             return element;
@@ -147,7 +235,7 @@ public class IntFIFO implements Queue<Integer> {
         }
         
         for (int i = 0; i < this.capacity(); i++) {
-            Integer element = array[(front + i) % capacity];
+            Integer element = slot((front + i) % capacity);
             if (i < this.capacity() - 1) {
                 if (i < size) {
                     sb.append(element).append(", ");
@@ -0,0 +1,142 @@
+package container;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Fusion k-voies de séquences d'int triées par ordre décroissant, par arbre des perdants
+ * (tournoi)
+ *
+ * Chaque nœud interne garde le perdant du match joué à cet endroit, la racine le
+ * vainqueur global. Après la sortie d'un élément, seule la source du vainqueur avance
+ * et on rejoue les matchs sur le chemin feuille-racine : log2(k) comparaisons par
+ * élément, contre environ 2 log2(k) pour un retrait suivi d'une insertion dans un tas.
+ *
+ * Comme les files de priorité de ce paquetage, la fusion sort le plus grand élément en
+ * premier ; à égalité, la source de plus petit indice passe d'abord (fusion stable).
+ */
+public class IntLoserTree implements PrimitiveIterator.OfInt {
+
+    private final PrimitiveIterator.OfInt[] sources;
+    private final int[] heads;          // Élément courant de chaque source
+    private final boolean[] exhausted;  // Source épuisée (perd contre tout le monde)
+    private final int[] tree;           // tree[0] = vainqueur, tree[1..k-1] = perdants
+    private final int k;
+
+    public IntLoserTree(PrimitiveIterator.OfInt... sources) {
+        this(Arrays.asList(sources));
+    }
+
+    public IntLoserTree(List<? extends PrimitiveIterator.OfInt> sources) {
+        if (sources == null || sources.contains(null)) {
+            throw new IllegalArgumentException("Les sources ne doivent pas être null");
+        }
+        this.k = sources.size();
+        this.sources = sources.toArray(new PrimitiveIterator.OfInt[0]);
+        this.heads = new int[k];
+        this.exhausted = new boolean[k];
+        this.tree = new int[Math.max(1, k)];
+        for (int i = 0; i < k; i++) {
+            if (this.sources[i].hasNext()) {
+                heads[i] = this.sources[i].nextInt();
+            } else {
+                exhausted[i] = true;
+            }
+        }
+        if (k > 0) {
+            tree[0] = build(1);
+        }
+    }
+
+    // Joue les matchs du sous-arbre de racine node et retourne son vainqueur
+    // (les feuilles sont les nœuds k..2k-1, la feuille k + i correspond à la source i)
+    private int build(int node) {
+        if (node >= k) {
+            return node - k;
+        }
+        int left = build(2 * node);
+        int right = build(2 * node + 1);
+        if (beats(left, right)) {
+            tree[node] = right;
+            return left;
+        }
+        tree[node] = left;
+        return right;
+    }
+
+    private boolean beats(int a, int b) {
+        if (exhausted[a]) {
+            return false;
+        }
+        if (exhausted[b]) {
+            return true;
+        }
+        return heads[a] > heads[b] || (heads[a] == heads[b] && a < b);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return k > 0 && !exhausted[tree[0]];
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Aucun élément suivant");
+        }
+        int winner = tree[0];
+        int value = heads[winner];
+        advance(winner);
+        return value;
+    }
+
+    /**
+     * Écrit jusqu'à len éléments fusionnés dans buffer à partir de offset
+     *
+     * @return le nombre d'éléments écrits (0 quand toutes les sources sont épuisées)
+     */
+    public int nextBatch(int[] buffer, int offset, int len) {
+        if (buffer == null || offset < 0 || len < 0 || offset + len > buffer.length) {
+            throw new IllegalArgumentException("Tampon de sortie invalide");
+        }
+        int count = 0;
+        while (count < len && hasNext()) {
+            int winner = tree[0];
+            buffer[offset + count++] = heads[winner];
+            advance(winner);
+        }
+        return count;
+    }
+
+    // Avance la source du vainqueur puis rejoue son chemin jusqu'à la racine
+    private void advance(int source) {
+        PrimitiveIterator.OfInt it = sources[source];
+        if (it.hasNext()) {
+            int next = it.nextInt();
+            if (next > heads[source]) {
+                throw new IllegalStateException("La source " + source + " n'est pas triée par ordre décroissant");
+            }
+            heads[source] = next;
+        } else {
+            exhausted[source] = true;
+        }
+        int winner = source;
+        for (int node = (source + k) >> 1; node > 0; node >>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * Nombre de sources fusionnées
+     */
+    public int sourceCount() {
+        return k;
+    }
+}
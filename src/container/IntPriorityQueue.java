@@ -1,6 +1,9 @@
 package container;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
@@ -9,9 +12,31 @@ import java.util.NoSuchElementException;
  */
 public class IntPriorityQueue implements Queue<Integer> {
     
+    // Nombre de cases recopiées par opération pendant un redimensionnement incrémental
+    private static final int MIGRATION_STEP = 64;
+    
+    // Taille du cache de tête, et nombre d'éléments tirés du tas à chaque recharge
+    // (la moitié : il reste de la place pour les insertions qui battent le cache)
+    static final int HEAD_CACHE_SIZE = 64;
+    private static final int HEAD_CACHE_REFILL = HEAD_CACHE_SIZE / 2;
+    
     private Integer[] heap;  // Tableau représentant le tas
-    private int size;        // Nombre d'éléments dans le tas
+    private int size;        // Nombre d'éléments dans le tas (hors cache de tête)
     private int capacity;    // Capacité maximale du tableau
+    
+    // Redimensionnement incrémental : pendant une migration, les cases [migrated, oldHeap.length)
+    // sont encore dans oldHeap, les autres dans heap
+    private boolean incrementalResize;
+    private Integer[] oldHeap;
+    private int migrated;
+    
+    // Cache de tête : les plus grands éléments, triés par ordre croissant dans la fenêtre
+    // [cacheLow, cacheHigh) (le maximum en dernier) ; tout élément du cache est >= tout
+    // élément du tas (null si inactif). La fenêtre laisse de la place des deux côtés : une
+    // insertion ne décale que la plus courte des deux parties
+    private int[] headCache;
+    private int cacheLow;
+    private int cacheHigh;
  
     public IntPriorityQueue(int capacity) {
         if (capacity <= 0) {
@@ -22,11 +47,63 @@ public class IntPriorityQueue implements Queue<Integer> {
         this.size = 0;
     }
     
+    // Adopte un tableau qui respecte déjà la propriété de tas sur [0, size)
+    private IntPriorityQueue(Integer[] heap, int size) {
+        this.capacity = heap.length;
+        this.heap = heap;
+        this.size = size;
+    }
+    
+    /**
+     * Construit une file contenant toutes les valeurs données, en O(n), en construisant
+     * les sous-arbres indépendants en parallèle (ForkJoin) puis les niveaux hauts
+     */
+    public static IntPriorityQueue buildParallel(int[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Le tableau ne doit pas être null");
+        }
+        int n = values.length;
+        Integer[] heap = new Integer[Math.max(1, n)];
+        Arrays.parallelSetAll(heap, i -> i < n ? values[i] : null);
+        ParallelHeaps.heapify(heap, n, Comparator.naturalOrder());
+        return new IntPriorityQueue(heap, n);
+    }
+    
+    /**
+     * Retourne les k plus grands éléments, du plus grand au plus petit, sans les retirer
+     * (voir ParallelHeaps.topK : parcours depuis la racine, ou balayage parallèle si k est grand)
+     */
+    public int[] topK(int k) {
+        // Le cache de tête précède tout le tas : on le prend d'abord
+        int fromCache = Math.min(Math.max(k, 0), cacheHigh - cacheLow);
+        List<Integer> top = ParallelHeaps.topK(this::get, size, k - fromCache, Comparator.naturalOrder());
+        int[] result = new int[fromCache + top.size()];
+        for (int i = 0; i < fromCache; i++) {
+            result[i] = headCache[cacheHigh - 1 - i];
+        }
+        for (int i = 0; i < top.size(); i++) {
+            result[fromCache + i] = top.get(i);
+        }
+        return result;
+    }
+    
     @Override
     public boolean insertElement(Integer e) {
         if (e == null) {
             throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
         }
+        if (cacheHigh > cacheLow && e > headCache[cacheLow]) {
+            insertInCache(e); // Bat le plus petit élément du cache : le tas n'est pas touché
+            return true;
+        }
+        insertInHeap(e);
+        return true;
+    }
+    
+    private void insertInHeap(Integer e) {
+        if (oldHeap != null) {
+            migrateStep();
+        }
         
         // Si le tas est plein, redimensionner
         if (size == capacity) {
@@ -34,16 +111,171 @@ public class IntPriorityQueue implements Queue<Integer> {
         }
         
         // Ajouter l'élément à la fin du tas
-        heap[size] = e;
+        set(size, e);
         size++;
         
         // Réorganiser le tas pour maintenir la propriété de tas
         heapifyUp(size - 1);
+    }
+    
+    /**
+     * Active ou désactive le cache de tête
+     * 
+     * Actif, les HEAD_CACHE_SIZE plus grands éléments au plus sont gardés hors du tas dans
+     * un int[] trié : element() et popElement() y lisent directement, et le cache n'est
+     * rechargé depuis le tas (par lots de HEAD_CACHE_REFILL, extraits en une passe) que
+     * lorsqu'il est vide. Une insertion plus grande que le plus petit élément du cache y
+     * est rangée en décalant la plus courte des deux parties ; si le cache est plein, sa
+     * moitié basse est rendue au tas d'un coup.
+     * Désactivé, le contenu du cache est rendu au tas.
+     */
+    public void setHeadCache(boolean enabled) {
+        if (enabled) {
+            if (headCache == null) {
+                headCache = new int[HEAD_CACHE_SIZE];
+            }
+            return;
+        }
+        if (headCache != null) {
+            for (int i = cacheLow; i < cacheHigh; i++) {
+                insertInHeap(headCache[i]);
+            }
+            headCache = null;
+            cacheLow = 0;
+            cacheHigh = 0;
+        }
+    }
+    
+    // Range e (> headCache[cacheLow]) à sa place dans le cache trié
+    private void insertInCache(int e) {
+        if (cacheHigh - cacheLow == HEAD_CACHE_SIZE) {
+            // Cache plein : la moitié basse retourne au tas, une seule fois pour HEAD_CACHE_REFILL insertions
+            for (int i = 0; i < HEAD_CACHE_REFILL; i++) {
+                insertInHeap(headCache[i]);
+            }
+            cacheLow = HEAD_CACHE_REFILL;
+            if (e <= headCache[cacheLow]) {
+                insertInHeap(e); // Ne bat plus le nouveau plus petit élément du cache
+                return;
+            }
+        }
+        int pos = Arrays.binarySearch(headCache, cacheLow, cacheHigh, e);
+        if (pos < 0) {
+            pos = -pos - 1;
+        }
+        // pos > cacheLow : e bat le plus petit élément, la partie basse n'est jamais vide
+        boolean shiftDown = cacheHigh == HEAD_CACHE_SIZE
+            || (cacheLow > 0 && pos - cacheLow < cacheHigh - pos);
+        if (shiftDown) {
+            System.arraycopy(headCache, cacheLow, headCache, cacheLow - 1, pos - cacheLow);
+            cacheLow--;
+            headCache[pos - 1] = e;
+        } else {
+            System.arraycopy(headCache, pos, headCache, pos + 1, cacheHigh - pos);
+            cacheHigh++;
+            headCache[pos] = e;
+        }
+    }
+    
+    /*
+     * Recharge le cache vide avec les plus grands éléments du tas, en une seule passe :
+     * 1. recherche par frontière depuis la racine (les candidats sont les enfants des
+     *    positions déjà retenues, valeurs gardées à côté dans un int[]), qui donne les
+     *    positions des count plus grands éléments dans l'ordre décroissant sans toucher
+     *    au tas ;
+     * 2. ces positions forment un sous-arbre contenant la racine ; on les comble de la plus
+     *    profonde à la racine en faisant descendre le trou jusqu'à une feuille (une seule
+     *    comparaison par niveau, entre les deux enfants), puis on bouche la feuille avec la
+     *    dernière case du tas, qui ne remonte en général que d'un ou deux niveaux.
+     * Les ancêtres d'un trou pas encore traité sont eux-mêmes des trous dont l'ancienne
+     * valeur domine tout le tas : la remontée s'arrête avant eux.
+     * Le cache est rempli au milieu du tableau pour laisser de la place des deux côtés.
+     */
+    private void refillCache() {
+        if (oldHeap != null) {
+            migrateStep();
+        }
+        int count = Math.min(HEAD_CACHE_REFILL, size);
+        int[] taken = new int[count];
+        int[] frontier = new int[2 * count + 1]; // Tas max de positions...
+        int[] values = new int[2 * count + 1];   // ... ordonné par ces valeurs
+        int frontierSize = 1;
+        values[0] = get(0);
+        cacheLow = (HEAD_CACHE_SIZE - count) / 2;
+        cacheHigh = cacheLow + count;
+        for (int t = 0; t < count; t++) {
+            int best = frontier[0];
+            headCache[cacheHigh - 1 - t] = values[0];
+            taken[t] = best;
+            frontierSize--;
+            frontierDown(frontier, values, frontier[frontierSize], values[frontierSize], frontierSize);
+            for (int child = 2 * best + 1; child <= 2 * best + 2 && child < size; child++) {
+                frontierUp(frontier, values, child, get(child), frontierSize++);
+            }
+        }
         
-        return true;
+        Arrays.sort(taken);
+        for (int t = count - 1; t >= 0; t--) {
+            int hole = taken[t];
+            int last = size - 1;
+            if (hole < last) {
+                while (2 * hole + 1 < size) {
+                    int child = 2 * hole + 1;
+                    if (child + 1 < size && get(child + 1) > get(child)) {
+                        child++;
+                    }
+                    set(hole, get(child));
+                    hole = child;
+                }
+                if (hole < last) {
+                    set(hole, get(last));
+                    heapifyUp(hole);
+                }
+            }
+            set(last, null);
+            size--;
+        }
+    }
+    
+    // Place (position, valeur) en i dans le tas max frontier / values, en remontant
+    private static void frontierUp(int[] frontier, int[] values, int position, int value, int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (value <= values[parent]) {
+                break;
+            }
+            frontier[i] = frontier[parent];
+            values[i] = values[parent];
+            i = parent;
+        }
+        frontier[i] = position;
+        values[i] = value;
+    }
+    
+    // Place (position, valeur) à la racine du tas max frontier / values de taille n, en descendant
+    private static void frontierDown(int[] frontier, int[] values, int position, int value, int n) {
+        int i = 0;
+        while (2 * i + 1 < n) {
+            int child = 2 * i + 1;
+            if (child + 1 < n && values[child + 1] > values[child]) {
+                child++;
+            }
+            if (value >= values[child]) {
+                break;
+            }
+            frontier[i] = frontier[child];
+            values[i] = values[child];
+            i = child;
+        }
+        frontier[i] = position;
+        values[i] = value;
     }
 
     private void resize() {
+        if (incrementalResize) {
+            startMigration();
+            return;
+        }
         int newCapacity = capacity + 1;
         Integer[] newHeap = new Integer[newCapacity];
         System.arraycopy(heap, 0, newHeap, 0, size);
@@ -51,8 +283,78 @@ public class IntPriorityQueue implements Queue<Integer> {
         capacity = newCapacity;
     }
     
+    /**
+     * Active ou désactive le redimensionnement incrémental
+     * 
+     * Actif, un redimensionnement double la capacité en allouant le nouveau tableau sans
+     * rien copier : les cases sont ensuite migrées par petits lots (MIGRATION_STEP) à
+     * chaque insertion ou retrait, et les lectures consultent l'ancien tableau pour les
+     * cases pas encore migrées. Aucune opération ne paie donc une copie en O(n).
+     */
+    public void setIncrementalResize(boolean enabled) {
+        if (!enabled) {
+            finishMigration();
+        }
+        incrementalResize = enabled;
+    }
+    
+    /**
+     * Indique si une migration incrémentale est en cours
+     */
+    public boolean isResizing() {
+        return oldHeap != null;
+    }
+    
+    private void startMigration() {
+        finishMigration(); // Jamais nécessaire en pratique : la migration va plus vite que le remplissage
+        oldHeap = heap;
+        heap = new Integer[capacity * 2];
+        capacity = capacity * 2;
+        migrated = 0;
+    }
+    
+    // Recopie le lot de cases suivant ; seules les cases occupées sont utiles
+    private void migrateStep() {
+        int end = Math.min(oldHeap.length, size);
+        int stop = Math.min(end, migrated + MIGRATION_STEP);
+        if (stop > migrated) {
+            System.arraycopy(oldHeap, migrated, heap, migrated, stop - migrated);
+            migrated = stop;
+        }
+        if (migrated >= end) {
+            oldHeap = null;
+        }
+    }
+    
+    private void finishMigration() {
+        while (oldHeap != null) {
+            migrateStep();
+        }
+    }
+    
+    // Accès à une case du tas, qu'elle soit déjà migrée ou non
+    private Integer get(int i) {
+        if (oldHeap != null && i >= migrated && i < oldHeap.length) {
+            return oldHeap[i];
+        }
+        return heap[i];
+    }
+    
+    private void set(int i, Integer value) {
+        if (oldHeap != null && i >= migrated && i < oldHeap.length) {
+            oldHeap[i] = value;
+        } else {
+            heap[i] = value;
+        }
+    }
+    
     // Méthode pour maintenir la propriété de tas lors de l'ajout
+    // (accès direct au tableau ; les accesseurs ne servent que pendant une migration)
     private void heapifyUp(int index) {
+        if (oldHeap != null) {
+            heapifyUpDuringMigration(index);
+            return;
+        }
         while (index > 0) {
             int parentIndex = (index - 1) / 2;
             
@@ -74,12 +376,52 @@ public class IntPriorityQueue implements Queue<Integer> {
         heap[j] = temp;
     }
     
+    // Tamisages pendant une migration : chaque case passe par get / set, qui savent si
+    // elle est encore dans l'ancien tableau
+    private void heapifyUpDuringMigration(int index) {
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            if (get(index).compareTo(get(parentIndex)) <= 0) {
+                break;
+            }
+            swapDuringMigration(index, parentIndex);
+            index = parentIndex;
+        }
+    }
+    
+    private void heapifyDownDuringMigration() {
+        int index = 0;
+        while (2 * index + 1 < size) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && get(child + 1).compareTo(get(child)) > 0) {
+                child++;
+            }
+            if (get(child).compareTo(get(index)) <= 0) {
+                break;
+            }
+            swapDuringMigration(index, child);
+            index = child;
+        }
+    }
+    
+    private void swapDuringMigration(int i, int j) {
+        Integer temp = get(i);
+        set(i, get(j));
+        set(j, temp);
+    }
+    
     @Override
     public Integer element() {
         if (isEmpty()) {
             throw new NoSuchElementException("La file est vide");
         }
-        return heap[0]; // Le plus grand élément est toujours à la racine
+        if (headCache != null) {
+            if (cacheHigh == cacheLow) {
+                refillCache();
+            }
+            return headCache[cacheHigh - 1];
+        }
+        return get(0); // Le plus grand élément est toujours à la racine
     }
     
     @Override
@@ -87,17 +429,32 @@ public class IntPriorityQueue implements Queue<Integer> {
         if (isEmpty()) {
             throw new NoSuchElementException("La file est vide");
         }
+        if (headCache != null) {
+            if (cacheHigh == cacheLow) {
+                refillCache();
+            } else if (oldHeap != null) {
+                migrateStep(); // La migration avance même quand le tas n'est pas sollicité
+            }
+            return headCache[--cacheHigh];
+        }
+        return popFromHeap();
+    }
+    
+    private Integer popFromHeap() {
+        if (oldHeap != null) {
+            migrateStep();
+        }
         
-        Integer maxElement = heap[0]; // Le plus grand élément
+        Integer maxElement = get(0); // Le plus grand élément
         
         if (size == 1) {
             // Si c'est le dernier élément, juste le supprimer
-            heap[0] = null;
+            set(0, null);
             size = 0;
         } else {
             // Remplacer par le dernier élément et réorganiser
-            heap[0] = heap[size - 1]; // Remplacer par le dernier élément
-            heap[size - 1] = null; // Libérer la référence
+            set(0, get(size - 1)); // Remplacer par le dernier élément
+            set(size - 1, null); // Libérer la référence
             size--;
             heapifyDown(); // Réorganiser le tas
         }
@@ -107,6 +464,10 @@ public class IntPriorityQueue implements Queue<Integer> {
 
     // Méthode pour maintenir la propriété de tas lors de la suppression
     private void heapifyDown() {
+        if (oldHeap != null) {
+            heapifyDownDuringMigration();
+            return;
+        }
         int index = 0;
         while (true) {
             int biggest = index;
@@ -135,12 +496,12 @@ public class IntPriorityQueue implements Queue<Integer> {
     
     @Override
     public boolean isEmpty() {
-        return size == 0;
+        return size + cacheHigh - cacheLow == 0;
     }
     
     @Override
     public int size() {
-        return size;
+        return size + cacheHigh - cacheLow;
     }
 
     public int capacity() {
@@ -150,6 +511,7 @@ public class IntPriorityQueue implements Queue<Integer> {
 
     /**
      * Itérateur pour parcourir les éléments de la file de priorité
+     * (ceux du tas dans l'ordre du tas, puis ceux du cache de tête du plus petit au plus grand)
      */
     @Override
     public Iterator<Integer> iterator() {
@@ -161,7 +523,7 @@ public class IntPriorityQueue implements Queue<Integer> {
         
         @Override
         public boolean hasNext() {
-            return currentIndex < size;
+            return currentIndex < size + cacheHigh - cacheLow;
         }
         
         @Override
@@ -170,7 +532,7 @@ public class IntPriorityQueue implements Queue<Integer> {
                 throw new NoSuchElementException("Aucun élément suivant");
             }
             
-            Integer element = heap[currentIndex];
+            Integer element = currentIndex < size ? get(currentIndex) : headCache[cacheLow + currentIndex - size];
             currentIndex++;
             return element;
         }
@@ -189,16 +551,22 @@ public class IntPriorityQueue implements Queue<Integer> {
             return sb.toString();
         }
         
-        // Afficher les éléments dans l'ordre du tas (heap)
+        // Afficher les éléments dans l'ordre du tas (heap), puis ceux du cache de tête
         for (int i = 0; i < size; i++) {
             if (i > 0) {
                 sb.append(", ");
             }
-            sb.append(heap[i]);
+            sb.append(get(i));
+        }
+        for (int i = cacheLow; i < cacheHigh; i++) {
+            if (size + i > cacheLow) {
+                sb.append(", ");
+            }
+            sb.append(headCache[i]);
         }
         
-        // Afficher les emplacements vides restants
-        sb.append(", None".repeat(Math.max(0, capacity - size)));
+        // Afficher les emplacements vides restants (les éléments du cache comptent comme occupés)
+        sb.append(", None".repeat(Math.max(0, capacity - size())));
         
         sb.append("]");
         return sb.toString();
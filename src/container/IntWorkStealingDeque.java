@@ -0,0 +1,135 @@
+package container;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Deque de vol de travail (Chase–Lev) pour identifiants de tâches int
+ *
+ * Même disposition que IntFIFO : un tableau circulaire, ici de taille puissance de deux
+ * (l'indice est masqué au lieu d'être pris modulo) et agrandi par doublement. Le thread
+ * propriétaire empile et dépile à une extrémité (bottom) sans verrou ; les autres
+ * threads volent à l'autre extrémité (top) avec un compare-and-set. Seul le dernier
+ * élément peut être disputé entre le propriétaire et un voleur.
+ *
+ * Les identifiants de tâches doivent être positifs ou nuls : les valeurs négatives
+ * EMPTY et ABORT servent de résultats sans boxing.
+ */
+public class IntWorkStealingDeque {
+
+    /** Résultat de pop ou steal quand la deque est vide */
+    public static final int EMPTY = -1;
+    /** Résultat de steal quand un autre thread a gagné la course : réessayer */
+    public static final int ABORT = -2;
+
+    private static final VarHandle TOP;
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(IntWorkStealingDeque.class, "top", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile long top;      // Prochain élément à voler (modifié par CAS)
+    private volatile long bottom;   // Prochaine case libre côté propriétaire
+    private volatile int[] array;   // Tableau circulaire de taille puissance de deux
+
+    public IntWorkStealingDeque(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        // Arrondir à la puissance de deux supérieure (au moins 2)
+        int length = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.array = new int[length];
+    }
+
+    /**
+     * Empile une tâche côté propriétaire (réservé au thread propriétaire)
+     */
+    public void push(int task) {
+        if (task < 0) {
+            throw new IllegalArgumentException("Les identifiants de tâche doivent être positifs");
+        }
+        long b = bottom;
+        long t = top;
+        int[] a = array;
+        if (b - t >= a.length - 1) {
+            a = grow(a, b, t);
+        }
+        a[(int) b & (a.length - 1)] = task;
+        bottom = b + 1; // Écriture volatile : publie la tâche aux voleurs
+    }
+
+    /**
+     * Dépile la dernière tâche empilée (réservé au thread propriétaire)
+     *
+     * @return la tâche, ou EMPTY si la deque est vide
+     */
+    public int pop() {
+        long b = bottom - 1;
+        int[] a = array;
+        bottom = b;
+        long t = top; // Lecture après l'écriture de bottom (accès volatiles ordonnés)
+        if (t > b) {
+            bottom = b + 1;
+            return EMPTY;
+        }
+        int task = a[(int) b & (a.length - 1)];
+        if (t < b) {
+            return task; // Plus d'un élément : aucun voleur ne peut l'atteindre
+        }
+        // Dernier élément : le disputer aux voleurs
+        if (!TOP.compareAndSet(this, t, t + 1)) {
+            task = EMPTY;
+        }
+        bottom = b + 1;
+        return task;
+    }
+
+    /**
+     * Vole la tâche la plus ancienne (appelable depuis n'importe quel thread)
+     *
+     * @return la tâche, EMPTY si la deque est vide, ou ABORT en cas de course perdue
+     */
+    public int steal() {
+        long t = top;
+        long b = bottom;
+        if (t >= b) {
+            return EMPTY;
+        }
+        int[] a = array;
+        int task = a[(int) t & (a.length - 1)];
+        if (!TOP.compareAndSet(this, t, t + 1)) {
+            return ABORT;
+        }
+        return task;
+    }
+
+    // Double la taille du tableau ; l'ancien reste lisible par les voleurs en cours
+    private int[] grow(int[] a, long b, long t) {
+        int[] newArray = new int[a.length * 2];
+        for (long i = t; i < b; i++) {
+            newArray[(int) i & (newArray.length - 1)] = a[(int) i & (a.length - 1)];
+        }
+        array = newArray;
+        return newArray;
+    }
+
+    /**
+     * Nombre approximatif de tâches (exact si aucun autre thread n'agit)
+     */
+    public int size() {
+        long n = bottom - top;
+        return n < 0 ? 0 : (int) n;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return array.length;
+    }
+}
@@ -0,0 +1,123 @@
+package container;
+
+import java.util.Locale;
+
+/**
+ * Histogramme de latences à précision relative bornée, dans l'esprit de HdrHistogram
+ *
+ * Les valeurs (en nanosecondes) sont rangées dans des seaux log-linéaires : chaque
+ * puissance de deux est découpée en 64 sous-seaux, soit une erreur relative inférieure
+ * à 1,6 % sur toute la plage [0, Long.MAX_VALUE], avec un tableau fixe de 3712 compteurs.
+ * Enregistrer une valeur est en O(1) et n'alloue rien.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 6;                 // 64 sous-seaux par puissance de deux
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_COUNT;
+
+    private final long[] counts = new long[BUCKETS];
+    private long totalCount;
+    private long max;
+    private long min = Long.MAX_VALUE;
+    private double sum;
+
+    /**
+     * Enregistre une latence en nanosecondes
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Latence négative : " + nanos);
+        }
+        counts[indexOf(nanos)]++;
+        totalCount++;
+        sum += nanos;
+        if (nanos > max) {
+            max = nanos;
+        }
+        if (nanos < min) {
+            min = nanos;
+        }
+    }
+
+    /**
+     * Ajoute les valeurs d'un autre histogramme à celui-ci
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+        min = Math.min(min, other.min);
+    }
+
+    // Valeurs < 128 : un seau par valeur ; au-delà, e = position du bit de poids fort - 6
+    // et le seau est (e, v >>> e), le second terme étant dans [64, 128)
+    private static int indexOf(long v) {
+        if (v < 2 * SUB_COUNT) {
+            return (int) v;
+        }
+        int e = 63 - Long.numberOfLeadingZeros(v) - SUB_BITS;
+        return e * SUB_COUNT + (int) (v >>> e);
+    }
+
+    // Plus grande valeur rangée dans le seau
+    private static long highestInBucket(int index) {
+        if (index < 2 * SUB_COUNT) {
+            return index;
+        }
+        int e = index / SUB_COUNT - 1;
+        long sub = index - (long) e * SUB_COUNT;
+        return ((sub + 1) << e) - 1;
+    }
+
+    /**
+     * Latence en dessous de laquelle se trouvent percentile % des valeurs (0 à 100)
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile invalide : " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestInBucket(i), max);
+            }
+        }
+        return max;
+    }
+
+    public long count() {
+        return totalCount;
+    }
+
+    public long max() {
+        return max;
+    }
+
+    public long min() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public double mean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    /**
+     * Résumé des percentiles usuels, en microsecondes
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+            "n=%d p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+            totalCount, percentile(50) / 1e3, percentile(99) / 1e3,
+            percentile(99.9) / 1e3, max / 1e3);
+    }
+}
@@ -0,0 +1,163 @@
+package container;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * File de priorité clé/valeur primitive : priorité de type long, valeur de type int
+ * Tas binaire max-heap stocké dans deux tableaux parallèles (aucun objet par entrée)
+ */
+public class LongIntPriorityQueue {
+
+    // Plus grande capacité possible : la JVM refuse en pratique les tableaux proches de
+    // Integer.MAX_VALUE cases
+    static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private long[] keys;     // Priorités, organisées en tas
+    private int[] values;    // Valeurs associées, à la même position que leur clé
+    private int size;        // Nombre d'entrées dans le tas
+    private int capacity;    // Capacité actuelle des tableaux
+
+    public LongIntPriorityQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("La capacité dépasse " + MAX_CAPACITY);
+        }
+        this.capacity = capacity;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Ajoute une entrée (clé, valeur) ; la plus grande clé sort en premier
+     */
+    public void insert(long key, int value) {
+        if (size == capacity) {
+            resize();
+        }
+
+        // Remonter un "trou" depuis la fin plutôt que d'échanger à chaque niveau
+        int index = size;
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            if (key <= keys[parentIndex]) {
+                break;
+            }
+            keys[index] = keys[parentIndex];
+            values[index] = values[parentIndex];
+            index = parentIndex;
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+    }
+
+    private void resize() {
+        int newCapacity = nextCapacity(capacity);
+        keys = Arrays.copyOf(keys, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+        capacity = newCapacity;
+    }
+
+    // Doublement : les tableaux primitifs sont copiés rarement ; plafonné à MAX_CAPACITY
+    // pour que ni le doublement ni la taille du tableau ne débordent un int
+    static int nextCapacity(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Capacité maximale atteinte : " + MAX_CAPACITY + " entrées");
+        }
+        return (int) Math.min(2L * capacity, MAX_CAPACITY);
+    }
+
+    /**
+     * Consulte la plus grande clé sans la retirer
+     */
+    public long peekKey() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        return keys[0];
+    }
+
+    /**
+     * Consulte la valeur associée à la plus grande clé sans la retirer
+     */
+    public int peekValue() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        return values[0];
+    }
+
+    /**
+     * Retire l'entrée de plus grande clé et retourne sa valeur
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+
+        int maxValue = values[0];
+        size--;
+        if (size > 0) {
+            heapifyDown(keys[size], values[size]);
+        }
+        return maxValue;
+    }
+
+    // Redescend la dernière entrée depuis la racine
+    private void heapifyDown(long key, int value) {
+        int index = 0;
+        int half = size / 2; // Les indices >= half sont des feuilles
+        while (index < half) {
+            int child = 2 * index + 1;
+            int rightChild = child + 1;
+
+            // Choisir le plus grand des deux enfants
+            if (rightChild < size && keys[rightChild] > keys[child]) {
+                child = rightChild;
+            }
+
+            // Si la propriété de tas est respectée, arrêter
+            if (key >= keys[child]) {
+                break;
+            }
+
+            keys[index] = keys[child];
+            values[index] = values[child];
+            index = child;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Retourne une représentation en chaîne des entrées, dans l'ordre du tas
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(keys[i]).append('=').append(values[i]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,161 @@
+package container;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * File de priorité clé/valeur primitive : priorité de type long, valeur de type long
+ * Tas binaire max-heap stocké dans un seul tableau long[] entrelacé :
+ * la clé de l'entrée i est en 2*i et sa valeur en 2*i + 1 (même ligne de cache)
+ */
+public class LongLongPriorityQueue {
+
+    // Plus grande capacité possible : le tableau entrelacé a 2 cases par entrée et la JVM
+    // refuse en pratique les tableaux proches de Integer.MAX_VALUE cases
+    static final int MAX_CAPACITY = (Integer.MAX_VALUE - 8) / 2;
+
+    private long[] entries;  // Couples (clé, valeur) entrelacés, organisés en tas
+    private int size;        // Nombre d'entrées dans le tas
+    private int capacity;    // Capacité actuelle des tableaux
+
+    public LongLongPriorityQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("La capacité dépasse " + MAX_CAPACITY);
+        }
+        this.capacity = capacity;
+        this.entries = new long[2 * capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Ajoute une entrée (clé, valeur) ; la plus grande clé sort en premier
+     */
+    public void insert(long key, long value) {
+        if (size == capacity) {
+            resize();
+        }
+
+        // Remonter un "trou" depuis la fin plutôt que d'échanger à chaque niveau
+        int index = size;
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            if (key <= entries[2 * parentIndex]) {
+                break;
+            }
+            entries[2 * index] = entries[2 * parentIndex];
+            entries[2 * index + 1] = entries[2 * parentIndex + 1];
+            index = parentIndex;
+        }
+        entries[2 * index] = key;
+        entries[2 * index + 1] = value;
+        size++;
+    }
+
+    private void resize() {
+        int newCapacity = nextCapacity(capacity);
+        entries = Arrays.copyOf(entries, 2 * newCapacity);
+        capacity = newCapacity;
+    }
+
+    // Doublement : les tableaux primitifs sont copiés rarement ; plafonné à MAX_CAPACITY
+    // pour que ni le doublement ni la taille du tableau ne débordent un int
+    static int nextCapacity(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Capacité maximale atteinte : " + MAX_CAPACITY + " entrées");
+        }
+        return (int) Math.min(2L * capacity, MAX_CAPACITY);
+    }
+
+    /**
+     * Consulte la plus grande clé sans la retirer
+     */
+    public long peekKey() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        return entries[0];
+    }
+
+    /**
+     * Consulte la valeur associée à la plus grande clé sans la retirer
+     */
+    public long peekValue() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        return entries[1];
+    }
+
+    /**
+     * Retire l'entrée de plus grande clé et retourne sa valeur
+     */
+    public long pop() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+
+        long maxValue = entries[1];
+        size--;
+        if (size > 0) {
+            heapifyDown(entries[2 * size], entries[2 * size + 1]);
+        }
+        return maxValue;
+    }
+
+    // Redescend la dernière entrée depuis la racine
+    private void heapifyDown(long key, long value) {
+        int index = 0;
+        int half = size / 2; // Les indices >= half sont des feuilles
+        while (index < half) {
+            int child = 2 * index + 1;
+            int rightChild = child + 1;
+
+            // Choisir le plus grand des deux enfants
+            if (rightChild < size && entries[2 * rightChild] > entries[2 * child]) {
+                child = rightChild;
+            }
+
+            // Si la propriété de tas est respectée, arrêter
+            if (key >= entries[2 * child]) {
+                break;
+            }
+
+            entries[2 * index] = entries[2 * child];
+            entries[2 * index + 1] = entries[2 * child + 1];
+            index = child;
+        }
+        entries[2 * index] = key;
+        entries[2 * index + 1] = value;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Retourne une représentation en chaîne des entrées, dans l'ordre du tas
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(entries[2 * i]).append('=').append(entries[2 * i + 1]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,119 @@
+package container;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Fusion k-voies de séquences triées par ordre décroissant (compareTo), par arbre des
+ * perdants ; version générique d'IntLoserTree
+ *
+ * Le plus grand élément sort en premier, et à égalité la source de plus petit indice
+ * passe d'abord. Chaque élément sorti coûte log2(k) comparaisons.
+ */
+@SuppressWarnings("unchecked")
+public class LoserTree<E extends Comparable<E>> implements Iterator<E> {
+
+    private final Iterator<? extends E>[] sources;
+    private final E[] heads;   // Élément courant de chaque source, null si épuisée
+    private final int[] tree;  // tree[0] = vainqueur, tree[1..k-1] = perdants
+    private final int k;
+
+    @SafeVarargs
+    public LoserTree(Iterator<? extends E>... sources) {
+        this(Arrays.asList(sources));
+    }
+
+    public LoserTree(List<? extends Iterator<? extends E>> sources) {
+        if (sources == null || sources.contains(null)) {
+            throw new IllegalArgumentException("Les sources ne doivent pas être null");
+        }
+        this.k = sources.size();
+        this.sources = sources.toArray(new Iterator[0]);
+        this.heads = (E[]) new Comparable[k];
+        this.tree = new int[Math.max(1, k)];
+        for (int i = 0; i < k; i++) {
+            heads[i] = pull(i);
+        }
+        if (k > 0) {
+            tree[0] = build(1);
+        }
+    }
+
+    private E pull(int source) {
+        Iterator<? extends E> it = sources[source];
+        if (!it.hasNext()) {
+            return null;
+        }
+        E next = it.next();
+        if (next == null) {
+            throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
+        }
+        return next;
+    }
+
+    // Joue les matchs du sous-arbre de racine node et retourne son vainqueur
+    private int build(int node) {
+        if (node >= k) {
+            return node - k;
+        }
+        int left = build(2 * node);
+        int right = build(2 * node + 1);
+        if (beats(left, right)) {
+            tree[node] = right;
+            return left;
+        }
+        tree[node] = left;
+        return right;
+    }
+
+    // Une source épuisée (tête null) perd contre toutes les autres
+    private boolean beats(int a, int b) {
+        E x = heads[a];
+        E y = heads[b];
+        if (x == null) {
+            return false;
+        }
+        if (y == null) {
+            return true;
+        }
+        int cmp = x.compareTo(y);
+        return cmp > 0 || (cmp == 0 && a < b);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return k > 0 && heads[tree[0]] != null;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Aucun élément suivant");
+        }
+        int winner = tree[0];
+        E value = heads[winner];
+        E next = pull(winner);
+        if (next != null && next.compareTo(value) > 0) {
+            throw new IllegalStateException("La source " + winner + " n'est pas triée par ordre décroissant");
+        }
+        heads[winner] = next;
+        for (int node = (winner + k) >> 1; node > 0; node >>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+        return value;
+    }
+
+    /**
+     * Nombre de sources fusionnées
+     */
+    public int sourceCount() {
+        return k;
+    }
+}
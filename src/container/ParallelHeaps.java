@@ -0,0 +1,203 @@
+package container;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+
+/**
+ * Opérations en masse sur des tas binaires (max-heap) parallélisées avec ForkJoin,
+ * partagées par IntPriorityQueue et GenPriorityQueue
+ */
+final class ParallelHeaps {
+
+    // En dessous de cette taille de sous-arbre (ou de plage), on reste séquentiel
+    static final int SEQUENTIAL_CUTOFF = 1 << 13;
+
+    private ParallelHeaps() {
+    }
+
+    /**
+     * Transforme a[0..size) en max-heap
+     *
+     * Les deux sous-arbres d'un nœud sont indépendants : on les construit en parallèle,
+     * puis on redescend le nœud lui-même. Seuls les niveaux hauts (au-dessus des
+     * sous-arbres de SEQUENTIAL_CUTOFF nœuds) sont traités après les jointures.
+     */
+    static <T> void heapify(T[] a, int size, Comparator<? super T> cmp) {
+        if (size < 2) {
+            return;
+        }
+        if (size <= SEQUENTIAL_CUTOFF) {
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(a, i, size, cmp);
+            }
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(new HeapifyTask<>(a, 0, size, cmp));
+    }
+
+    @SuppressWarnings("serial") // Tâche jamais sérialisée
+    private static final class HeapifyTask<T> extends RecursiveAction {
+        private final T[] a;
+        private final int node;
+        private final int size;
+        private final Comparator<? super T> cmp;
+
+        HeapifyTask(T[] a, int node, int size, Comparator<? super T> cmp) {
+            this.a = a;
+            this.node = node;
+            this.size = size;
+            this.cmp = cmp;
+        }
+
+        @Override
+        protected void compute() {
+            if (subtreeBound(node, size) <= SEQUENTIAL_CUTOFF) {
+                heapifySubtree(a, node, size, cmp);
+                return;
+            }
+            invokeAll(new HeapifyTask<>(a, 2 * node + 1, size, cmp),
+                      new HeapifyTask<>(a, 2 * node + 2, size, cmp));
+            siftDown(a, node, size, cmp);
+        }
+    }
+
+    // Majorant du nombre de nœuds du sous-arbre de racine node
+    private static long subtreeBound(int node, int size) {
+        int height = (31 - Integer.numberOfLeadingZeros(size)) - (31 - Integer.numberOfLeadingZeros(node + 1));
+        return (2L << height) - 1;
+    }
+
+    // Construction séquentielle du sous-arbre : enfants d'abord, puis la racine
+    private static <T> void heapifySubtree(T[] a, int node, int size, Comparator<? super T> cmp) {
+        if (node >= size / 2) {
+            return; // Feuille
+        }
+        heapifySubtree(a, 2 * node + 1, size, cmp);
+        heapifySubtree(a, 2 * node + 2, size, cmp);
+        siftDown(a, node, size, cmp);
+    }
+
+    private static <T> void siftDown(T[] a, int index, int size, Comparator<? super T> cmp) {
+        T element = a[index];
+        int half = size / 2;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int rightChild = child + 1;
+            if (rightChild < size && cmp.compare(a[rightChild], a[child]) > 0) {
+                child = rightChild;
+            }
+            if (cmp.compare(element, a[child]) >= 0) {
+                break;
+            }
+            a[index] = a[child];
+            index = child;
+        }
+        a[index] = element;
+    }
+
+    /**
+     * Retourne les k plus grands éléments d'un tas de size éléments, du plus grand au
+     * plus petit, sans le modifier ; heap(i) donne l'élément en position i
+     *
+     * Pour k petit devant size, parcours "meilleur d'abord" depuis la racine : seuls les
+     * O(k) nœuds candidats sont visités, en O(k log k). Quand k est une fraction notable
+     * du tas, on balaie plutôt le tableau en parallèle : chaque tâche garde ses k
+     * meilleurs dans un tas borné, et les résultats sont fusionnés à la jointure.
+     */
+    static <T> List<T> topK(IntFunction<T> heap, int size, int k, Comparator<? super T> cmp) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k doit être positif ou nul");
+        }
+        k = Math.min(k, size);
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+        if (size > SEQUENTIAL_CUTOFF && k > size / 32) {
+            return ForkJoinPool.commonPool().invoke(new TopKTask<>(heap, 0, size, k, cmp));
+        }
+        return bestFirst(heap, size, k, cmp);
+    }
+
+    private static <T> List<T> bestFirst(IntFunction<T> heap, int size, int k, Comparator<? super T> cmp) {
+        List<T> result = new ArrayList<>(k);
+        // Frontière : indices dont le parent a déjà été retenu, le meilleur en tête
+        PriorityQueue<Integer> frontier = new PriorityQueue<>(
+            (i, j) -> cmp.compare(heap.apply(j), heap.apply(i)));
+        frontier.add(0);
+        while (result.size() < k) {
+            int i = frontier.poll();
+            result.add(heap.apply(i));
+            if (2 * i + 1 < size) {
+                frontier.add(2 * i + 1);
+            }
+            if (2 * i + 2 < size) {
+                frontier.add(2 * i + 2);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("serial") // Tâche jamais sérialisée
+    private static final class TopKTask<T> extends RecursiveTask<List<T>> {
+        private final IntFunction<T> heap;
+        private final int from;
+        private final int to;
+        private final int k;
+        private final Comparator<? super T> cmp;
+
+        TopKTask(IntFunction<T> heap, int from, int to, int k, Comparator<? super T> cmp) {
+            this.heap = heap;
+            this.from = from;
+            this.to = to;
+            this.k = k;
+            this.cmp = cmp;
+        }
+
+        @Override
+        protected List<T> compute() {
+            if (to - from <= SEQUENTIAL_CUTOFF) {
+                // Tas borné de taille k (min en tête) : on ne garde que les k meilleurs
+                PriorityQueue<T> best = new PriorityQueue<>(k, cmp);
+                for (int i = from; i < to; i++) {
+                    T element = heap.apply(i);
+                    if (best.size() < k) {
+                        best.add(element);
+                    } else if (cmp.compare(element, best.peek()) > 0) {
+                        best.poll();
+                        best.add(element);
+                    }
+                }
+                List<T> sorted = new ArrayList<>(best);
+                sorted.sort(Collections.reverseOrder(cmp));
+                return sorted;
+            }
+            int middle = (from + to) >>> 1;
+            TopKTask<T> left = new TopKTask<>(heap, from, middle, k, cmp);
+            left.fork();
+            List<T> right = new TopKTask<>(heap, middle, to, k, cmp).compute();
+            return merge(left.join(), right);
+        }
+
+        // Fusion de deux listes décroissantes, tronquée à k éléments
+        private List<T> merge(List<T> a, List<T> b) {
+            List<T> merged = new ArrayList<>(Math.min(k, a.size() + b.size()));
+            int i = 0;
+            int j = 0;
+            while (merged.size() < k && (i < a.size() || j < b.size())) {
+                if (j == b.size() || (i < a.size() && cmp.compare(a.get(i), b.get(j)) >= 0)) {
+                    merged.add(a.get(i++));
+                } else {
+                    merged.add(b.get(j++));
+                }
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package container;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * File de priorité persistante (immuable) : tas gauche (leftist heap) max-heap
+ *
+ * insert et pop ne modifient jamais la file : ils retournent une nouvelle version qui
+ * partage la plus grande partie de ses nœuds avec l'ancienne (seul le chemin de droite,
+ * de longueur O(log n), est recopié). Prendre un instantané revient donc à garder une
+ * référence, en O(1), et plusieurs threads peuvent lire une version pendant qu'un
+ * autre en produit de nouvelles, par exemple :
+ *
+ * volatile PersistentPriorityQueue<Job> current = PersistentPriorityQueue.empty();
+ * current = current.insert(job);                    // écrivain unique
+ * PersistentPriorityQueue<Job> snapshot = current;  // lecteurs
+ *
+ * @param <E> Le type des éléments, comparables entre eux
+ */
+public final class PersistentPriorityQueue<E extends Comparable<E>> implements Iterable<E> {
+
+    private static final PersistentPriorityQueue<?> EMPTY = new PersistentPriorityQueue<>(null, 0);
+
+    private final Node<E> root;
+    private final int size;
+
+    private PersistentPriorityQueue(Node<E> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Retourne la file vide (partagée par tous les types)
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Comparable<E>> PersistentPriorityQueue<E> empty() {
+        return (PersistentPriorityQueue<E>) EMPTY;
+    }
+
+    /**
+     * Retourne une nouvelle version contenant en plus l'élément donné, en O(log n)
+     */
+    public PersistentPriorityQueue<E> insert(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
+        }
+        return new PersistentPriorityQueue<>(merge(root, new Node<>(element, null, null)), size + 1);
+    }
+
+    /**
+     * Consulte le plus grand élément, en O(1)
+     */
+    public E element() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        return root.element;
+    }
+
+    /**
+     * Retourne une nouvelle version sans le plus grand élément, en O(log n)
+     */
+    public PersistentPriorityQueue<E> pop() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        return new PersistentPriorityQueue<>(merge(root.left, root.right), size - 1);
+    }
+
+    /**
+     * Retourne la réunion des deux files, en O(log n) ; aucune des deux n'est modifiée
+     */
+    public PersistentPriorityQueue<E> merge(PersistentPriorityQueue<E> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("La file ne doit pas être null");
+        }
+        return new PersistentPriorityQueue<>(merge(root, other.root), size + other.size);
+    }
+
+    // Fusion de deux tas gauches le long de leur chemin de droite
+    private static <E extends Comparable<E>> Node<E> merge(Node<E> a, Node<E> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        // La racine du résultat est la plus grande des deux racines
+        if (b.element.compareTo(a.element) > 0) {
+            Node<E> temp = a;
+            a = b;
+            b = temp;
+        }
+        Node<E> merged = merge(a.right, b);
+        // Garder le chemin de droite le plus court (propriété du tas gauche)
+        if (rank(a.left) >= rank(merged)) {
+            return new Node<>(a.element, a.left, merged);
+        }
+        return new Node<>(a.element, merged, a.left);
+    }
+
+    private static int rank(Node<?> node) {
+        return node == null ? 0 : node.rank;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Itérateur sur les éléments de cette version (ordre du tas, racine d'abord)
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new PersistentPriorityQueueIterator();
+    }
+
+    private class PersistentPriorityQueueIterator implements Iterator<E> {
+        private final Deque<Node<E>> pending = new ArrayDeque<>();
+
+        PersistentPriorityQueueIterator() {
+            if (root != null) {
+                pending.push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Aucun élément suivant");
+            }
+            Node<E> node = pending.pop();
+            if (node.right != null) {
+                pending.push(node.right);
+            }
+            if (node.left != null) {
+                pending.push(node.left);
+            }
+            return node.element;
+        }
+    }
+
+    /**
+     * Retourne une représentation en chaîne de la file, dans l'ordre du tas
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (E element : this) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(element);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Nœud immuable ; rank est la longueur du chemin de droite
+     */
+    private static final class Node<E> {
+        final E element;
+        final Node<E> left;
+        final Node<E> right;
+        final int rank;
+
+        Node(E element, Node<E> left, Node<E> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.rank = (right == null ? 0 : right.rank) + 1;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package container;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client de QueueServer : chaque appel simple fait un aller-retour, et un Pipeline
+ * regroupe autant de requêtes que voulu en une seule écriture puis lit toutes les
+ * réponses, soit un appel système par lot au lieu d'un par élément
+ *
+ * Un client n'est pas thread-safe : un client par thread.
+ */
+public class QueueClient implements Closeable {
+
+    private final SocketChannel channel;
+    private ByteBuffer in = ByteBuffer.allocateDirect(64 * 1024); // Mode écriture
+
+    public QueueClient(int port) throws IOException {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    public QueueClient(InetSocketAddress address) throws IOException {
+        channel = SocketChannel.open(address);
+        channel.socket().setTcpNoDelay(true);
+    }
+
+    /**
+     * Crée une IntFIFO nommée sur le serveur (sans effet si le nom existe déjà)
+     */
+    public void createFifo(String name) throws IOException {
+        pipeline().createFifo(name).execute();
+    }
+
+    /**
+     * Crée une IntPriorityQueue nommée sur le serveur (sans effet si le nom existe déjà)
+     */
+    public void createPriorityQueue(String name) throws IOException {
+        pipeline().createPriorityQueue(name).execute();
+    }
+
+    /**
+     * Insère les valeurs dans la file nommée, en une trame
+     */
+    public void insert(String name, int... values) throws IOException {
+        pipeline().insert(name, values, 0, values.length).execute();
+    }
+
+    /**
+     * Retire jusqu'à max éléments de la file nommée, dans l'ordre de la file
+     */
+    public int[] pop(String name, int max) throws IOException {
+        return pipeline().pop(name, max).execute().get(0);
+    }
+
+    public int size(String name) throws IOException {
+        return pipeline().size(name).execute().get(0)[0];
+    }
+
+    /**
+     * Démarre un lot de requêtes envoyées ensemble
+     */
+    public Pipeline pipeline() {
+        return new Pipeline();
+    }
+
+    /**
+     * Lot de requêtes : chaque méthode ajoute une trame, execute() les envoie toutes en
+     * une écriture puis retourne une réponse par requête, dans l'ordre
+     */
+    public final class Pipeline {
+        private ByteBuffer out = ByteBuffer.allocate(4096);
+        private final List<Byte> ops = new ArrayList<>(); // Opération de chaque requête
+
+        private Pipeline() {
+        }
+
+        public Pipeline createFifo(String name) {
+            header(QueueProtocol.CREATE_FIFO, name, 0);
+            return this;
+        }
+
+        public Pipeline createPriorityQueue(String name) {
+            header(QueueProtocol.CREATE_PRIORITY, name, 0);
+            return this;
+        }
+
+        public Pipeline insert(String name, int[] values, int offset, int length) {
+            if (values == null || offset < 0 || length < 0 || offset + length > values.length) {
+                throw new IllegalArgumentException("Tableau de valeurs invalide");
+            }
+            header(QueueProtocol.INSERT, name, 4 + 4 * length);
+            out.putInt(length);
+            for (int i = 0; i < length; i++) {
+                out.putInt(values[offset + i]);
+            }
+            return this;
+        }
+
+        public Pipeline pop(String name, int max) {
+            if (max < 0) {
+                throw new IllegalArgumentException("Le nombre d'éléments doit être positif");
+            }
+            header(QueueProtocol.POP, name, 4);
+            out.putInt(max);
+            return this;
+        }
+
+        public Pipeline size(String name) {
+            header(QueueProtocol.SIZE, name, 0);
+            return this;
+        }
+
+        private void header(byte op, String name, int payload) {
+            byte[] encoded = QueueProtocol.encodeName(name);
+            int length = 1 + 2 + encoded.length + payload;
+            if (length > QueueProtocol.MAX_FRAME) {
+                throw new IllegalArgumentException("Trame trop grande : " + length + " octets");
+            }
+            if (out.remaining() < 4 + length) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + 4 + length));
+                out.flip();
+                larger.put(out);
+                out = larger;
+            }
+            out.putInt(length).put(op).putShort((short) encoded.length).put(encoded);
+            ops.add(op);
+        }
+
+        /**
+         * Envoie le lot et lit les réponses : [] pour une création, [n] pour une
+         * insertion, les valeurs retirées pour un retrait, [taille] pour size
+         *
+         * @throws IOException si le serveur signale une erreur pour l'une des requêtes
+         *         (les requêtes du lot sont toutes exécutées malgré tout)
+         */
+        public List<int[]> execute() throws IOException {
+            out.flip();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            List<int[]> results = new ArrayList<>(ops.size());
+            String error = null;
+            for (byte op : ops) {
+                ByteBuffer frame = readFrame();
+                if (frame.get() == QueueProtocol.ERROR) {
+                    byte[] message = new byte[frame.remaining()];
+                    frame.get(message);
+                    if (error == null) {
+                        error = new String(message, StandardCharsets.UTF_8);
+                    }
+                    results.add(new int[0]);
+                    continue;
+                }
+                // Retrait : [n][valeurs] ; autres réponses : les int tels quels
+                int[] values = new int[op == QueueProtocol.POP ? frame.getInt() : frame.remaining() / 4];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = frame.getInt();
+                }
+                results.add(values);
+            }
+            ops.clear();
+            out.clear();
+            if (error != null) {
+                throw new IOException(error);
+            }
+            return results;
+        }
+    }
+
+    // Lit une trame de réponse complète ; la vue retournée commence au statut
+    private ByteBuffer readFrame() throws IOException {
+        while (true) {
+            in.flip();
+            if (in.remaining() >= 4) {
+                int length = in.getInt(in.position());
+                if (length <= 0 || length > QueueProtocol.MAX_FRAME) {
+                    throw new IOException("Réponse invalide : " + length);
+                }
+                if (in.remaining() >= 4 + length) {
+                    byte[] frame = new byte[length];
+                    in.position(in.position() + 4);
+                    in.get(frame);
+                    in.compact();
+                    return ByteBuffer.wrap(frame);
+                }
+                in.compact();
+                in = QueueProtocol.ensureCapacity(in, 4 + length - in.position());
+            } else {
+                in.compact();
+            }
+            if (channel.read(in) < 0) {
+                throw new EOFException("Connexion fermée par le serveur");
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
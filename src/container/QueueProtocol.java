@@ -0,0 +1,72 @@
+package container;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Format des trames échangées entre QueueServer et QueueClient
+ *
+ * Requête : [int longueur][byte opération][short longueur du nom][nom UTF-8][données]
+ * Réponse : [int longueur][byte statut][données]
+ * La longueur compte les octets qui la suivent. Les données sont des int big-endian :
+ * INSERT envoie [n][v1..vn] et reçoit [n] ; POP envoie [max] et reçoit [n][v1..vn] ;
+ * SIZE reçoit [taille] ; CREATE_* ne reçoivent rien. En cas d'erreur, le statut vaut
+ * ERROR et les données sont le message en UTF-8.
+ */
+final class QueueProtocol {
+
+    static final byte CREATE_FIFO = 1;
+    static final byte CREATE_PRIORITY = 2;
+    static final byte INSERT = 3;
+    static final byte POP = 4;
+    static final byte SIZE = 5;
+
+    static final byte OK = 0;
+    static final byte ERROR = 1;
+
+    static final int MAX_FRAME = 16 * 1024 * 1024;
+
+    private QueueProtocol() {
+    }
+
+    static byte[] encodeName(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Le nom de la file ne doit pas être vide");
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Nom de file trop long");
+        }
+        return bytes;
+    }
+
+    static String decodeName(ByteBuffer frame) {
+        int length = frame.getShort();
+        if (length < 0 || length > frame.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        frame.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Tampon avec au moins required octets libres, contenu (en mode écriture) conservé ;
+    // required ne peut dépasser une trame maximale et son en-tête
+    static ByteBuffer ensureCapacity(ByteBuffer buffer, int required) {
+        if (required > MAX_FRAME + 4) {
+            throw new IllegalArgumentException("Trame trop grande : " + required + " octets");
+        }
+        if (buffer.remaining() >= required) {
+            return buffer;
+        }
+        long capacity = buffer.capacity(); // long : le doublement ne peut pas déborder
+        while (capacity - buffer.position() < required) {
+            capacity *= 2;
+        }
+        ByteBuffer larger = ByteBuffer.allocateDirect((int) Math.min(capacity, Integer.MAX_VALUE));
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+}
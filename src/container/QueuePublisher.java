@@ -0,0 +1,184 @@
+package container;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adaptateur Flow.Publisher qui émet les éléments retirés d'une Queue<E> séquentielle
+ * selon la demande de son abonné : avec une GenPriorityQueue, l'abonné reçoit toujours
+ * le plus prioritaire des éléments en attente
+ *
+ * Les producteurs alimentent la file par offer(). Une boucle de vidage, protégée par un
+ * compteur "work in progress", retire les éléments par lots (au plus BATCH_SIZE par
+ * prise du verrou de la file) tant que la demande le permet ; un seul thread vide à la
+ * fois, les autres se contentent de signaler qu'il y a du travail. Publication unicast :
+ * un second abonné reçoit onError.
+ *
+ * L'indicateur de fin et la file sont lus et modifiés sous le même verrou (celui de la
+ * file) : un offer concurrent de complete() est soit inséré avant que la boucle de vidage
+ * constate "file vide et terminé", soit refusé, jamais perdu.
+ */
+public class QueuePublisher<E> implements Flow.Publisher<E> {
+
+    static final int BATCH_SIZE = 64;
+
+    private final Queue<E> queue;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile Flow.Subscriber<? super E> subscriber;
+    private boolean done;                // Plus d'offer à venir (verrou de la file)
+    private volatile boolean cancelled;
+    private volatile boolean terminated; // onComplete ou onError déjà envoyé
+    private volatile Throwable pendingError; // Demande invalide, signalée par la boucle de vidage
+
+    public QueuePublisher(Queue<E> queue) {
+        if (queue == null) {
+            throw new IllegalArgumentException("La file ne doit pas être null");
+        }
+        this.queue = queue;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("L'abonné ne doit pas être null");
+        }
+        boolean accepted;
+        synchronized (this) {
+            accepted = this.subscriber == null; // Décidé sous le verrou, signalé hors du verrou
+            if (accepted) {
+                this.subscriber = subscriber;
+            }
+        }
+        if (!accepted) {
+            subscriber.onSubscribe(new CancelledSubscription());
+            subscriber.onError(new IllegalStateException("Ce publieur n'accepte qu'un abonné"));
+            return;
+        }
+        subscriber.onSubscribe(new QueueSubscription());
+        drain();
+    }
+
+    /**
+     * Ajoute un élément à la file ; il sera émis dès que la demande le permet
+     */
+    public void offer(E element) {
+        synchronized (queue) {
+            if (done) {
+                throw new IllegalStateException("Le publieur est terminé");
+            }
+            queue.insertElement(element);
+        }
+        drain();
+    }
+
+    /**
+     * Signale qu'aucun autre élément ne sera offert : onComplete suit la fin de la file
+     */
+    public void complete() {
+        synchronized (queue) {
+            done = true;
+        }
+        drain();
+    }
+
+    /**
+     * Nombre d'éléments en attente d'émission
+     */
+    public int pending() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return; // Le thread qui vide déjà reprendra la boucle
+        }
+        @SuppressWarnings("unchecked")
+        E[] batch = (E[]) new Object[BATCH_SIZE];
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super E> s = subscriber;
+            if (s != null) {
+                emitLoop(s, batch);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emitLoop(Flow.Subscriber<? super E> s, E[] batch) {
+        while (!terminated) {
+            if (pendingError != null) {
+                terminated = true;
+                s.onError(pendingError);
+                return;
+            }
+            if (cancelled) {
+                return;
+            }
+            long requested = demand.get();
+            int count = 0;
+            boolean finished; // File vide et plus aucun offer possible
+            synchronized (queue) {
+                while (count < requested && count < BATCH_SIZE && !queue.isEmpty()) {
+                    batch[count++] = queue.popElement();
+                }
+                finished = done && queue.isEmpty();
+            }
+            for (int i = 0; i < count; i++) {
+                E element = batch[i];
+                batch[i] = null;
+                if (!cancelled) {
+                    s.onNext(element);
+                }
+            }
+            if (count > 0 && requested != Long.MAX_VALUE) {
+                demand.addAndGet(-count);
+            }
+            if (finished && !cancelled) {
+                terminated = true;
+                s.onComplete();
+                return;
+            }
+            if (count == 0) {
+                return; // Plus de demande ou plus d'éléments
+            }
+        }
+    }
+
+    private final class QueueSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Règle 3.9 : signalée par onError, depuis la boucle de vidage pour rester séquentiel
+                pendingError = new IllegalArgumentException("La demande doit être positive : " + n);
+                drain();
+                return;
+            }
+            long current;
+            long next;
+            do {
+                current = demand.get();
+                next = current + n < 0 ? Long.MAX_VALUE : current + n; // Plafonnée
+            } while (!demand.compareAndSet(current, next));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class CancelledSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
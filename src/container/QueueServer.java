@@ -0,0 +1,295 @@
+package container;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Petit serveur NIO non bloquant qui héberge des IntFIFO et IntPriorityQueue nommées et
+ * les expose aux autres processus de la machine (voir QueueClient et QueueProtocol)
+ *
+ * Un seul thread gère toutes les connexions avec un Selector : les files ne sont donc
+ * jamais touchées en concurrence. Chaque connexion a ses tampons directs de lecture et
+ * d'écriture ; toutes les trames complètes reçues en une lecture sont traitées d'un
+ * coup et leurs réponses partent en une seule écriture, ce qui permet aux clients
+ * d'envoyer leurs requêtes en rafale (pipelining).
+ *
+ * Tant qu'une connexion a plus de OUT_LIMIT octets de réponses en attente, ses trames
+ * suivantes ne sont plus traitées et sa socket n'est plus lue : un client qui envoie
+ * sans jamais lire ne fait pas grossir la mémoire du serveur. Une trame mal formée
+ * ferme la connexion fautive sans affecter les autres.
+ */
+public class QueueServer implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int OUT_LIMIT = BUFFER_SIZE;
+    private static final int MAX_POP = (QueueProtocol.MAX_FRAME - 5) / 4; // Réponse dans une trame
+
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    private final Map<String, Queue<Integer>> queues = new HashMap<>();
+    private final Thread loop;
+    private volatile boolean running = true;
+
+    /**
+     * Démarre un serveur sur l'adresse de bouclage, port choisi par le système
+     */
+    public QueueServer() throws IOException {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    public QueueServer(InetSocketAddress address) throws IOException {
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        server.bind(address);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+        loop = new Thread(this::run, "queue-server");
+        loop.setDaemon(true);
+        loop.start();
+    }
+
+    /**
+     * Port sur lequel le serveur écoute
+     */
+    public int port() {
+        return server.socket().getLocalPort();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    try {
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            Connection connection = (Connection) key.attachment();
+                            if (key.isReadable()) {
+                                connection.read();
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.flush();
+                            }
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        closeQuietly(key); // Client parti ou trame invalide : on ferme sa connexion
+                    }
+                }
+            }
+        } catch (IOException e) {
+            if (running) {
+                throw new UncheckedIOException(e);
+            }
+        } catch (ClosedSelectorException e) {
+            // Fermeture pendant select()
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+    }
+
+    private static void closeQuietly(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // Déjà fermée
+        }
+    }
+
+    private final class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private ByteBuffer in = ByteBuffer.allocateDirect(BUFFER_SIZE);  // Mode écriture
+        private ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE); // Mode écriture
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        void read() throws IOException {
+            if (channel.read(in) < 0) {
+                closeQuietly(key);
+                return;
+            }
+            process();
+            flush();
+        }
+
+        // Traite les trames complètes reçues tant que la sortie en attente reste sous OUT_LIMIT
+        private void process() throws IOException {
+            in.flip();
+            while (in.remaining() >= 4 && out.position() < OUT_LIMIT) {
+                int length = frameLength(in.position());
+                if (in.remaining() < 4 + length) {
+                    break; // Trame incomplète : attendre la suite
+                }
+                int end = in.position() + 4 + length;
+                ByteBuffer frame = in.duplicate();
+                frame.position(in.position() + 4).limit(end);
+                handle(frame);
+                in.position(end);
+            }
+            in.compact();
+            if (in.position() >= 4) {
+                // Agrandir le tampon si la trame en cours n'y tient pas
+                int length = frameLength(0);
+                in = QueueProtocol.ensureCapacity(in, 4 + length - in.position());
+            }
+        }
+
+        // Vrai si le tampon d'entrée (en mode écriture) contient une trame complète
+        private boolean hasCompleteFrame() throws IOException {
+            return in.position() >= 4 && in.position() >= 4 + frameLength(0);
+        }
+
+        // Longueur annoncée par l'en-tête à index, validée avant tout agrandissement du tampon
+        private int frameLength(int index) throws IOException {
+            int length = in.getInt(index);
+            if (length <= 0 || length > QueueProtocol.MAX_FRAME) {
+                throw new IOException("Trame invalide : " + length);
+            }
+            return length;
+        }
+
+        void flush() throws IOException {
+            while (true) {
+                out.flip();
+                channel.write(out);
+                out.compact();
+                if (out.position() > 0 || !hasCompleteFrame()) {
+                    break;
+                }
+                process(); // Sortie vidée : reprendre les trames mises en attente
+            }
+            // Réponses en attente : ne plus lire tant que le client ne les a pas consommées
+            key.interestOps(out.position() > 0 ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+
+        private void handle(ByteBuffer frame) throws IOException {
+            byte op;
+            String name;
+            try {
+                op = frame.get();
+                name = QueueProtocol.decodeName(frame);
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Trame tronquée", e);
+            }
+            Queue<Integer> queue = queues.get(name);
+            try {
+                switch (op) {
+                    case QueueProtocol.CREATE_FIFO:
+                        queues.putIfAbsent(name, new IntFIFO(16));
+                        reply(0);
+                        break;
+                    case QueueProtocol.CREATE_PRIORITY:
+                        IntPriorityQueue priorityQueue = new IntPriorityQueue(16);
+                        priorityQueue.setIncrementalResize(true); // Pas de pause O(n) côté serveur
+                        queues.putIfAbsent(name, priorityQueue);
+                        reply(0);
+                        break;
+                    case QueueProtocol.INSERT: {
+                        checkExists(queue, name);
+                        int count = frame.getInt();
+                        // Valider le compte avant de toucher à la file : tout ou rien
+                        if (count < 0 || count > frame.remaining() / 4) {
+                            throw new IllegalArgumentException("Nombre de valeurs invalide : " + count);
+                        }
+                        for (int i = 0; i < count; i++) {
+                            queue.insertElement(frame.getInt());
+                        }
+                        reply(4);
+                        out.putInt(count);
+                        break;
+                    }
+                    case QueueProtocol.POP: {
+                        checkExists(queue, name);
+                        int max = frame.getInt();
+                        if (max < 0) {
+                            throw new IllegalArgumentException("Nombre d'éléments invalide : " + max);
+                        }
+                        int count = Math.min(Math.min(max, MAX_POP), queue.size());
+                        reply(4 + 4 * count);
+                        out.putInt(count);
+                        for (int i = 0; i < count; i++) {
+                            out.putInt(queue.popElement());
+                        }
+                        break;
+                    }
+                    case QueueProtocol.SIZE:
+                        checkExists(queue, name);
+                        reply(4);
+                        out.putInt(queue.size());
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Opération inconnue : " + op);
+                }
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Trame tronquée", e);
+            } catch (RuntimeException e) {
+                byte[] message = String.valueOf(e.getMessage()).getBytes(StandardCharsets.UTF_8);
+                out = QueueProtocol.ensureCapacity(out, 5 + message.length);
+                out.putInt(1 + message.length).put(QueueProtocol.ERROR).put(message);
+            }
+        }
+
+        // Écrit l'en-tête d'une réponse OK suivie de payload octets
+        private void reply(int payload) {
+            out = QueueProtocol.ensureCapacity(out, 5 + payload);
+            out.putInt(1 + payload).put(QueueProtocol.OK);
+        }
+
+        private void checkExists(Queue<Integer> queue, String name) {
+            if (queue == null) {
+                throw new IllegalArgumentException("File inconnue : " + name);
+            }
+        }
+    }
+
+    /**
+     * Arrête le serveur et ferme toutes les connexions
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        try {
+            loop.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+    }
+}
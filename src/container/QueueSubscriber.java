@@ -0,0 +1,150 @@
+package container;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Adaptateur Flow.Subscriber qui déverse un flux réactif dans une Queue<E> séquentielle
+ * (IntFIFO, GenPriorityQueue...) en respectant une limite d'éléments en attente
+ *
+ * La demande est émise par lots : au départ, toute la limite est demandée ; ensuite,
+ * une nouvelle demande n'est faite que lorsque la place libre (limite - éléments dans
+ * la file - éléments déjà demandés) atteint un quart de la limite. Le producteur reçoit
+ * ainsi un request(n) par lot et non un request(1) par élément.
+ *
+ * Le consommateur retire les éléments avec poll(), qui relance la demande. onNext et
+ * poll peuvent être appelés depuis des threads différents : la file est protégée par le
+ * moniteur de l'adaptateur. La place à demander est calculée (et réservée) sous ce
+ * moniteur, mais request et cancel sont appelés après l'avoir relâché : un producteur
+ * qui émet de façon synchrone depuis request, ou depuis un autre thread, ne peut pas
+ * se bloquer sur lui (Reactive Streams §2.7, §3.3).
+ */
+public class QueueSubscriber<E> implements Flow.Subscriber<E> {
+
+    private final Queue<E> queue;
+    private final int limit;      // Éléments en file + demandés non reçus, au plus
+    private final int batch;      // Taille minimale d'une nouvelle demande
+    private Flow.Subscription subscription;
+    private long outstanding;     // Demandés mais pas encore reçus
+    private boolean completed;
+    private Throwable error;
+
+    public QueueSubscriber(Queue<E> queue, int limit) {
+        if (queue == null) {
+            throw new IllegalArgumentException("La file ne doit pas être null");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("La limite doit être positive");
+        }
+        this.queue = queue;
+        this.limit = limit;
+        this.batch = Math.max(1, limit / 4);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (subscription == null) {
+            throw new NullPointerException("La souscription ne doit pas être null");
+        }
+        long request;
+        synchronized (this) {
+            if (this.subscription == null) {
+                this.subscription = subscription;
+                request = reserve();
+            } else {
+                request = -1;
+            }
+        }
+        if (request < 0) {
+            subscription.cancel(); // Un seul producteur à la fois
+        } else if (request > 0) {
+            subscription.request(request);
+        }
+    }
+
+    @Override
+    public synchronized void onNext(E item) {
+        queue.insertElement(item);
+        outstanding--;
+    }
+
+    @Override
+    public synchronized void onError(Throwable throwable) {
+        error = throwable;
+        completed = true;
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        completed = true;
+    }
+
+    /**
+     * Retire le prochain élément de la file, ou retourne null si elle est vide
+     */
+    public E poll() {
+        E element;
+        long request;
+        Flow.Subscription s;
+        synchronized (this) {
+            if (queue.isEmpty()) {
+                return null;
+            }
+            element = queue.popElement();
+            request = reserve();
+            s = subscription;
+        }
+        if (request > 0) {
+            s.request(request);
+        }
+        return element;
+    }
+
+    // Réserve la place libre si elle représente au moins un lot (moniteur tenu) ;
+    // retourne le nombre d'éléments à demander, 0 sinon
+    private long reserve() {
+        if (subscription == null || completed) {
+            return 0;
+        }
+        long free = limit - queue.size() - outstanding;
+        if (free < batch) {
+            return 0;
+        }
+        outstanding += free;
+        return free;
+    }
+
+    /**
+     * Annule la souscription ; les éléments déjà en file restent disponibles
+     */
+    public void cancel() {
+        Flow.Subscription s;
+        synchronized (this) {
+            s = completed ? null : subscription;
+            completed = true;
+        }
+        if (s != null) {
+            s.cancel();
+        }
+    }
+
+    /**
+     * Nombre d'éléments en file
+     */
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * Vrai quand le producteur a terminé (normalement ou en erreur) ou après cancel()
+     */
+    public synchronized boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Erreur signalée par le producteur, ou null
+     */
+    public synchronized Throwable error() {
+        return error;
+    }
+}
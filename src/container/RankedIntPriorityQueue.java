@@ -0,0 +1,237 @@
+package container;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * File de priorité d'int (max-heap) avec requêtes de statistiques d'ordre
+ *
+ * Les priorités appartiennent à un domaine borné [minKey, maxKey] fixé à la création.
+ * Un arbre de Fenwick (arbre binaire indexé) compte les éléments par valeur : insertion,
+ * retrait du maximum, countAbove, rank, kth et countInRange sont tous en O(log D),
+ * où D est la taille du domaine, sans parcourir ni vider la file.
+ */
+public class RankedIntPriorityQueue implements Queue<Integer> {
+
+    private final int minKey;
+    private final int maxKey;
+    private final int[] counts;   // counts[k - minKey] = nombre d'éléments de valeur k
+    private final int[] tree;     // Arbre de Fenwick sur counts (indices 1..D)
+    private final int highestBit; // Plus grande puissance de deux <= D, pour la descente
+    private int size;
+
+    public RankedIntPriorityQueue(int minKey, int maxKey) {
+        if (minKey > maxKey) {
+            throw new IllegalArgumentException("Le domaine des priorités est vide");
+        }
+        long domain = (long) maxKey - minKey + 1;
+        if (domain > Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("Le domaine des priorités est trop grand");
+        }
+        this.minKey = minKey;
+        this.maxKey = maxKey;
+        this.counts = new int[(int) domain];
+        this.tree = new int[(int) domain + 1];
+        this.highestBit = Integer.highestOneBit((int) domain);
+    }
+
+    /**
+     * Ajoute une priorité, qui doit appartenir au domaine
+     */
+    public void insert(int p) {
+        if (p < minKey || p > maxKey) {
+            throw new IllegalArgumentException("Priorité hors du domaine : " + p);
+        }
+        add(p - minKey, 1);
+        size++;
+    }
+
+    /**
+     * Consulte la plus grande priorité
+     */
+    public int peek() {
+        return kth(1);
+    }
+
+    /**
+     * Retire et retourne la plus grande priorité
+     */
+    public int pop() {
+        int max = kth(1);
+        add(max - minKey, -1);
+        size--;
+        return max;
+    }
+
+    /**
+     * Retire un exemplaire de la priorité p, quel que soit son rang
+     *
+     * @return false si p n'est pas présente
+     */
+    public boolean remove(int p) {
+        if (p < minKey || p > maxKey || counts[p - minKey] == 0) {
+            return false;
+        }
+        add(p - minKey, -1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Nombre d'éléments de priorité strictement supérieure à p
+     */
+    public int countAbove(int p) {
+        if (p < minKey) {
+            return size;
+        }
+        if (p >= maxKey) {
+            return 0;
+        }
+        return size - prefix(p - minKey);
+    }
+
+    /**
+     * Rang qu'aurait la priorité p : 1 + nombre d'éléments strictement meilleurs
+     */
+    public int rank(int p) {
+        return countAbove(p) + 1;
+    }
+
+    /**
+     * Retourne la k-ième plus grande priorité (k = 1 pour le maximum)
+     */
+    public int kth(int k) {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        if (k < 1 || k > size) {
+            throw new IllegalArgumentException("Rang invalide : " + k);
+        }
+        // k-ième plus grand = (size - k + 1)-ième plus petit
+        int target = size - k + 1;
+        int index = 0;
+        for (int bit = highestBit; bit > 0; bit >>= 1) {
+            int next = index + bit;
+            if (next < tree.length && tree[next] < target) {
+                index = next;
+                target -= tree[next];
+            }
+        }
+        return minKey + index; // index + 1 en base 1, soit index en base 0
+    }
+
+    /**
+     * Nombre d'éléments de priorité comprise dans [a, b] (bornes incluses)
+     */
+    public int countInRange(int a, int b) {
+        int low = Math.max(a, minKey);
+        int high = Math.min(b, maxKey);
+        if (low > high) {
+            return 0;
+        }
+        int below = low == minKey ? 0 : prefix(low - 1 - minKey);
+        return prefix(high - minKey) - below;
+    }
+
+    // Nombre d'éléments de valeur <= minKey + i
+    private int prefix(int i) {
+        int sum = 0;
+        for (int j = i + 1; j > 0; j -= j & -j) {
+            sum += tree[j];
+        }
+        return sum;
+    }
+
+    private void add(int i, int delta) {
+        counts[i] += delta;
+        for (int j = i + 1; j < tree.length; j += j & -j) {
+            tree[j] += delta;
+        }
+    }
+
+    public int minKey() {
+        return minKey;
+    }
+
+    public int maxKey() {
+        return maxKey;
+    }
+
+    @Override
+    public boolean insertElement(Integer e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
+        }
+        insert(e);
+        return true;
+    }
+
+    @Override
+    public Integer element() {
+        return peek();
+    }
+
+    @Override
+    public Integer popElement() {
+        return pop();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Itérateur sur les éléments, du plus grand au plus petit
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new RankedIterator();
+    }
+
+    private class RankedIterator implements Iterator<Integer> {
+        private int remaining = size;
+        private int value = size == 0 ? -1 : kth(1) - minKey; // Valeur courante (base 0)
+        private int emitted = 0;                                // Émis pour cette valeur
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Aucun élément suivant");
+            }
+            while (emitted == counts[value]) {
+                value--;
+                emitted = 0;
+            }
+            emitted++;
+            remaining--;
+            return minKey + value;
+        }
+    }
+
+    /**
+     * Retourne une représentation en chaîne des éléments, du plus grand au plus petit
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int value : this) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(value);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package container;
+
+import java.util.Iterator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Décorateur qui enregistre dans une Trace chaque insertElement, popElement et element
+ * exécuté sur la file décorée, avec la clé concernée et l'instant de l'appel
+ *
+ * La clé d'un élément est obtenue par keyOf (par exemple Integer::intValue). Les appels
+ * qui échouent (file vide, élément null) ne sont pas enregistrés.
+ */
+public class RecordingQueue<E> implements Queue<E> {
+
+    private final Queue<E> delegate;
+    private final ToIntFunction<? super E> keyOf;
+    private final Trace trace;
+    private final long origin = System.nanoTime();
+
+    public RecordingQueue(Queue<E> delegate, ToIntFunction<? super E> keyOf, Trace trace) {
+        if (delegate == null || keyOf == null || trace == null) {
+            throw new IllegalArgumentException("Les paramètres ne doivent pas être null");
+        }
+        this.delegate = delegate;
+        this.keyOf = keyOf;
+        this.trace = trace;
+    }
+
+    /**
+     * Enregistre une file d'Integer, la clé étant la valeur elle-même
+     */
+    public static RecordingQueue<Integer> of(Queue<Integer> delegate, Trace trace) {
+        return new RecordingQueue<>(delegate, Integer::intValue, trace);
+    }
+
+    @Override
+    public boolean insertElement(E e) {
+        long time = System.nanoTime() - origin;
+        boolean inserted = delegate.insertElement(e);
+        trace.add(Trace.INSERT, keyOf.applyAsInt(e), time);
+        return inserted;
+    }
+
+    @Override
+    public E element() {
+        long time = System.nanoTime() - origin;
+        E e = delegate.element();
+        trace.add(Trace.PEEK, keyOf.applyAsInt(e), time);
+        return e;
+    }
+
+    @Override
+    public E popElement() {
+        long time = System.nanoTime() - origin;
+        E e = delegate.popElement();
+        trace.add(Trace.POP, keyOf.applyAsInt(e), time);
+        return e;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    public Trace trace() {
+        return trace;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return delegate.iterator();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
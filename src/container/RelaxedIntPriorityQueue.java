@@ -0,0 +1,272 @@
+package container;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * File de priorité d'int à ordre relâché : popElement retourne l'un des k plus grands
+ * éléments, pas forcément le plus grand
+ *
+ * Organisation en "log-structured merge" (version séquentielle du k-LSM) : les
+ * insertions sont rangées sans tri dans un tampon de k places ; quand il est plein, il
+ * est trié et devient une suite triée, ajoutée à une pile de suites dont les tailles
+ * décroissent au moins d'un facteur 2 (deux suites de tailles voisines sont fusionnées,
+ * comme les niveaux d'un LSM). Il y a donc O(log(n / k)) suites, toutes lues et
+ * fusionnées séquentiellement, sans l'accès aléatoire d'un tas.
+ *
+ * pop et element ne regardent que les têtes des suites (leur maximum, en fin de
+ * tableau) et ignorent le tampon : seuls les k - 1 éléments au plus qui y attendent
+ * peuvent dépasser l'élément retourné, dont le rang est donc au plus k. Le relâchement
+ * paie vraiment : une insertion ne coûte qu'une écriture dans le tampon, le tri et les
+ * fusions se font par blocs de k, et plus k est grand, moins il y a de suites à
+ * consulter à chaque retrait et de niveaux de fusion.
+ *
+ * Avec k = 1, chaque insertion devient une suite d'un élément et la file est exacte.
+ */
+public class RelaxedIntPriorityQueue implements Queue<Integer> {
+
+    // Suite triée par ordre croissant ; éléments restants dans values[0, end)
+    private static final class Run {
+        int[] values;
+        int end;
+
+        Run(int[] values, int end) {
+            this.values = values;
+            this.end = end;
+        }
+    }
+
+    private final int relaxation; // k : borne du rang de l'élément retourné
+    private Run[] runs = new Run[8]; // Pile de suites, tailles décroissantes vers le sommet
+    private int runCount;
+    private int runElements;       // Nombre d'éléments restants dans les suites
+    private final int[] buffer;    // Insertions pas encore triées
+    private int bufferSize;
+    private int[] scratch;         // Tableau réutilisé par les fusions
+
+    /**
+     * @param capacity taille initiale du tableau de fusion (nombre d'éléments prévus)
+     * @param relaxation k, borne du rang de l'élément retourné par pop
+     */
+    public RelaxedIntPriorityQueue(int capacity, int relaxation) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        if (relaxation <= 0) {
+            throw new IllegalArgumentException("Le relâchement doit être positif");
+        }
+        this.relaxation = relaxation;
+        this.buffer = new int[relaxation];
+        this.scratch = new int[capacity];
+    }
+
+    /**
+     * Ajoute un élément sans boxing
+     */
+    public void insert(int e) {
+        buffer[bufferSize++] = e;
+        if (bufferSize == relaxation) {
+            flush(); // Au plus k - 1 éléments restent en attente
+        }
+    }
+
+    /**
+     * Consulte l'élément que retournera pop (de rang au plus k)
+     */
+    public int peek() {
+        Run best = bestRun();
+        return best.values[best.end - 1];
+    }
+
+    /**
+     * Retire un élément de rang au plus k
+     */
+    public int pop() {
+        Run best = bestRun();
+        int top = best.values[--best.end];
+        runElements--;
+        if (best.end == 0) {
+            removeRun(best);
+        }
+        return top;
+    }
+
+    // Suite dont la tête est la plus grande ; verse le tampon si aucune suite n'existe
+    private Run bestRun() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        if (runCount == 0) {
+            flush();
+        }
+        Run best = runs[0];
+        for (int i = 1; i < runCount; i++) {
+            Run run = runs[i];
+            if (run.values[run.end - 1] > best.values[best.end - 1]) {
+                best = run;
+            }
+        }
+        return best;
+    }
+
+    // Trie le tampon et l'empile comme nouvelle suite, puis fusionne les niveaux voisins
+    private void flush() {
+        int[] values = Arrays.copyOf(buffer, bufferSize);
+        Arrays.sort(values);
+        runElements += bufferSize;
+        bufferSize = 0;
+        push(new Run(values, values.length));
+        while (runCount >= 2 && runs[runCount - 2].end <= 2 * runs[runCount - 1].end) {
+            Run top = runs[--runCount];
+            Run below = runs[runCount - 1];
+            runs[runCount] = null;
+            runs[runCount - 1] = merge(below, top);
+        }
+    }
+
+    private void push(Run run) {
+        if (runCount == runs.length) {
+            runs = Arrays.copyOf(runs, runs.length * 2);
+        }
+        runs[runCount++] = run;
+    }
+
+    private void removeRun(Run run) {
+        int i = 0;
+        while (runs[i] != run) {
+            i++;
+        }
+        System.arraycopy(runs, i + 1, runs, i, runCount - i - 1);
+        runs[--runCount] = null;
+    }
+
+    // Fusion séquentielle de deux suites croissantes ; le plus grand tableau libéré sert
+    // de tableau de fusion suivant
+    private Run merge(Run a, Run b) {
+        int n = a.end + b.end;
+        int[] out = scratch.length >= n ? scratch : new int[Math.max(n, scratch.length * 2)];
+        int i = 0;
+        int j = 0;
+        int o = 0;
+        int[] x = a.values;
+        int[] y = b.values;
+        while (i < a.end && j < b.end) {
+            out[o++] = x[i] <= y[j] ? x[i++] : y[j++];
+        }
+        System.arraycopy(x, i, out, o, a.end - i);
+        o += a.end - i;
+        System.arraycopy(y, j, out, o, b.end - j);
+        scratch = x.length >= y.length ? x : y;
+        return new Run(out, n);
+    }
+
+    /**
+     * Borne k du rang de l'élément retourné par pop
+     */
+    public int relaxation() {
+        return relaxation;
+    }
+
+    /**
+     * Nombre total de cases allouées (suites, tampon et tableau de fusion)
+     */
+    public int capacity() {
+        int total = buffer.length + scratch.length;
+        for (int i = 0; i < runCount; i++) {
+            total += runs[i].values.length;
+        }
+        return total;
+    }
+
+    /**
+     * Nombre de suites triées actuellement empilées (O(log(n / k)))
+     */
+    public int runCount() {
+        return runCount;
+    }
+
+    @Override
+    public boolean insertElement(Integer e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
+        }
+        insert(e);
+        return true;
+    }
+
+    @Override
+    public Integer element() {
+        return peek();
+    }
+
+    @Override
+    public Integer popElement() {
+        return pop();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return runElements + bufferSize == 0;
+    }
+
+    @Override
+    public int size() {
+        return runElements + bufferSize;
+    }
+
+    /**
+     * Itérateur sur les éléments : les suites, de la plus ancienne à la plus récente, puis le tampon
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new RelaxedIterator();
+    }
+
+    private class RelaxedIterator implements Iterator<Integer> {
+        private int run = 0;
+        private int index = 0;
+        private int bufferIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            while (run < runCount && index == runs[run].end) {
+                run++;
+                index = 0;
+            }
+            return run < runCount || bufferIndex < bufferSize;
+        }
+
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Aucun élément suivant");
+            }
+            return run < runCount ? runs[run].values[index++] : buffer[bufferIndex++];
+        }
+    }
+
+    /**
+     * Retourne une représentation en chaîne : les suites triées, puis le tampon non trié
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        boolean first = true;
+        for (int r = 0; r < runCount; r++) {
+            for (int i = 0; i < runs[r].end; i++) {
+                sb.append(first ? "" : ", ").append(runs[r].values[i]);
+                first = false;
+            }
+        }
+        sb.append(" | ");
+        for (int i = 0; i < bufferSize; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(buffer[i]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,97 @@
+package container;
+
+import java.util.Arrays;
+
+/**
+ * Tableau logique découpé en segments de taille fixe (puissance de deux)
+ *
+ * Le répertoire des segments est le seul tableau qui grandit, et il ne contient qu'une
+ * référence par segment : ajouter de la capacité revient à allouer un segment, sans
+ * jamais recopier les éléments. Avec des segments modestes (1024 références par défaut),
+ * aucune allocation ne devient un objet "humongous" pour G1, quelle que soit la taille
+ * totale. Les segments de tête ou de queue peuvent être libérés individuellement.
+ *
+ * L'indice 0 désigne le premier élément du premier segment conservé.
+ */
+final class SegmentedArray<T> {
+
+    static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final int chunkBits;
+    private final int chunkMask;
+    private Object[][] directory = new Object[4][];
+    private int firstChunk; // Position du premier segment dans le répertoire
+    private int chunkCount;
+
+    SegmentedArray(int chunkSize) {
+        if (chunkSize <= 0 || Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException("La taille des segments doit être une puissance de deux");
+        }
+        this.chunkBits = Integer.numberOfTrailingZeros(chunkSize);
+        this.chunkMask = chunkSize - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(int i) {
+        return (T) directory[firstChunk + (i >>> chunkBits)][i & chunkMask];
+    }
+
+    void set(int i, T value) {
+        directory[firstChunk + (i >>> chunkBits)][i & chunkMask] = value;
+    }
+
+    /**
+     * Ajoute un segment vide en fin de tableau
+     */
+    void addChunk() {
+        if (firstChunk + chunkCount == directory.length) {
+            if (chunkCount <= directory.length / 2) {
+                // Assez de place libérée en tête : recompacter le répertoire sur place
+                System.arraycopy(directory, firstChunk, directory, 0, chunkCount);
+                Arrays.fill(directory, chunkCount, directory.length, null);
+            } else {
+                Object[][] newDirectory = new Object[directory.length * 2][];
+                System.arraycopy(directory, firstChunk, newDirectory, 0, chunkCount);
+                directory = newDirectory;
+            }
+            firstChunk = 0;
+        }
+        directory[firstChunk + chunkCount] = new Object[chunkMask + 1];
+        chunkCount++;
+    }
+
+    /**
+     * Libère le premier segment ; les indices sont décalés d'une taille de segment
+     */
+    void removeFirstChunk() {
+        directory[firstChunk] = null;
+        firstChunk++;
+        chunkCount--;
+        if (chunkCount == 0) {
+            firstChunk = 0;
+        }
+    }
+
+    /**
+     * Libère le dernier segment
+     */
+    void removeLastChunk() {
+        chunkCount--;
+        directory[firstChunk + chunkCount] = null;
+        if (chunkCount == 0) {
+            firstChunk = 0;
+        }
+    }
+
+    int chunkSize() {
+        return chunkMask + 1;
+    }
+
+    int chunkCount() {
+        return chunkCount;
+    }
+
+    int capacity() {
+        return chunkCount << chunkBits;
+    }
+}
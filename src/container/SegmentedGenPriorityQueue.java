@@ -0,0 +1,165 @@
+package container;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * File de priorité générique (max-heap) stockée par segments de taille fixe
+ *
+ * Même tas binaire que GenPriorityQueue, mais le tableau logique est un SegmentedArray :
+ * la croissance ajoute un segment sans recopie, et les segments de fin sont libérés
+ * quand la file se vide (un segment libre est gardé en réserve pour éviter d'allouer
+ * et libérer en boucle autour d'une frontière).
+ */
+public class SegmentedGenPriorityQueue<E extends Comparable<E>> implements Queue<E> {
+
+    private final SegmentedArray<E> heap;
+    private int size;
+
+    public SegmentedGenPriorityQueue() {
+        this(SegmentedArray.DEFAULT_CHUNK_SIZE);
+    }
+
+    public SegmentedGenPriorityQueue(int chunkSize) {
+        this.heap = new SegmentedArray<>(chunkSize);
+    }
+
+    @Override
+    public boolean insertElement(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
+        }
+        if (size == heap.capacity()) {
+            heap.addChunk();
+        }
+        // Remonter un "trou" depuis la fin plutôt que d'échanger à chaque niveau
+        int index = size++;
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            E parent = heap.get(parentIndex);
+            if (element.compareTo(parent) <= 0) {
+                break;
+            }
+            heap.set(index, parent);
+            index = parentIndex;
+        }
+        heap.set(index, element);
+        return true;
+    }
+
+    @Override
+    public E element() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        return heap.get(0);
+    }
+
+    @Override
+    public E popElement() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        E maxElement = heap.get(0);
+        size--;
+        E last = heap.get(size);
+        heap.set(size, null); // Libérer la référence
+        if (size > 0) {
+            heapifyDown(last);
+        }
+        // Garder au plus un segment libre au-delà de la taille
+        if (heap.capacity() - size > 2 * heap.chunkSize()) {
+            heap.removeLastChunk();
+        }
+        return maxElement;
+    }
+
+    // Redescend element depuis la racine jusqu'à sa place
+    private void heapifyDown(E element) {
+        int index = 0;
+        int half = size / 2; // Les indices >= half sont des feuilles
+        while (index < half) {
+            int child = 2 * index + 1;
+            E biggest = heap.get(child);
+            int rightChild = child + 1;
+            if (rightChild < size) {
+                E right = heap.get(rightChild);
+                if (right.compareTo(biggest) > 0) {
+                    child = rightChild;
+                    biggest = right;
+                }
+            }
+            if (element.compareTo(biggest) >= 0) {
+                break;
+            }
+            heap.set(index, biggest);
+            index = child;
+        }
+        heap.set(index, element);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Capacité actuellement allouée (nombre de segments × taille d'un segment)
+     */
+    public int capacity() {
+        return heap.capacity();
+    }
+
+    /**
+     * Nombre de segments actuellement alloués
+     */
+    public int chunkCount() {
+        return heap.chunkCount();
+    }
+
+    /**
+     * Itérateur sur les éléments dans l'ordre du tas
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SegmentedHeapIterator();
+    }
+
+    private class SegmentedHeapIterator implements Iterator<E> {
+        private int currentIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Aucun élément suivant");
+            }
+            return heap.get(currentIndex++);
+        }
+    }
+
+    /**
+     * Retourne une représentation en chaîne des éléments dans l'ordre du tas
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(heap.get(i));
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,131 @@
+package container;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * File FIFO d'Integer stockée par segments de taille fixe (voir SegmentedArray)
+ *
+ * Contrairement à IntFIFO, la croissance ajoute un segment au lieu de recopier tout le
+ * tableau circulaire, et chaque segment entièrement consommé en tête est rendu au GC :
+ * la mémoire occupée suit la taille réelle de la file lorsqu'elle se vide.
+ */
+public class SegmentedIntFIFO implements Queue<Integer> {
+
+    private final SegmentedArray<Integer> array;
+    private int head;  // Position du premier élément dans le premier segment
+    private int size;
+
+    public SegmentedIntFIFO() {
+        this(SegmentedArray.DEFAULT_CHUNK_SIZE);
+    }
+
+    public SegmentedIntFIFO(int chunkSize) {
+        this.array = new SegmentedArray<>(chunkSize);
+    }
+
+    @Override
+    public boolean insertElement(Integer e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
+        }
+        if (head + size == array.capacity()) {
+            array.addChunk(); // Aucune recopie : un segment de plus
+        }
+        array.set(head + size, e);
+        size++;
+        return true;
+    }
+
+    @Override
+    public Integer element() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        return array.get(head);
+    }
+
+    @Override
+    public Integer popElement() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        Integer element = array.get(head);
+        array.set(head, null); // Libérer la référence
+        head++;
+        size--;
+        if (head == array.chunkSize()) {
+            // Segment de tête entièrement consommé : le libérer
+            array.removeFirstChunk();
+            head = 0;
+        } else if (size == 0) {
+            head = 0; // File vide : repartir du début du segment conservé
+        }
+        return element;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Capacité actuellement allouée (nombre de segments × taille d'un segment)
+     */
+    public int capacity() {
+        return array.capacity();
+    }
+
+    /**
+     * Nombre de segments actuellement alloués
+     */
+    public int chunkCount() {
+        return array.chunkCount();
+    }
+
+    /**
+     * Itérateur pour parcourir les éléments dans l'ordre FIFO
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new SegmentedIterator();
+    }
+
+    private class SegmentedIterator implements Iterator<Integer> {
+        private int currentIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Aucun élément suivant");
+            }
+            return array.get(head + currentIndex++);
+        }
+    }
+
+    /**
+     * Retourne une représentation en chaîne des éléments, du plus ancien au plus récent
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(array.get(head + i));
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
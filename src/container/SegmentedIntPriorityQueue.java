@@ -0,0 +1,19 @@
+package container;
+
+/**
+ * File de priorité d'Integer (max-heap) stockée par segments de taille fixe
+ *
+ * Pendant de IntPriorityQueue pour le stockage par segments : le tas, la croissance par
+ * ajout de segment et la libération des segments de fin sont ceux de
+ * SegmentedGenPriorityQueue, l'ordre des Integer étant leur ordre naturel.
+ */
+public class SegmentedIntPriorityQueue extends SegmentedGenPriorityQueue<Integer> {
+
+    public SegmentedIntPriorityQueue() {
+        super();
+    }
+
+    public SegmentedIntPriorityQueue(int chunkSize) {
+        super(chunkSize);
+    }
+}
@@ -0,0 +1,637 @@
+package container;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * File de priorité d'int (max-heap) à mémoire bornée qui déborde sur disque
+ *
+ * Un tas "chaud" de memoryBudget éléments au plus reste en mémoire. Quand il est plein,
+ * il est trié et écrit d'un bloc dans un fichier (une "séquence" triée par ordre
+ * décroissant). Les séquences sont relues paresseusement, par blocs, avec des lectures
+ * FileChannel séquentielles ; les séquences sont elles-mêmes rangées dans un petit tas
+ * ordonné par leur tête, si bien que le plus grand élément est le maximum entre la racine
+ * du tas chaud et la racine de ce tas de séquences.
+ *
+ * Les séquences sont fusionnées par niveaux, comme dans un LSM (principe du "sequence
+ * heap") : un débordement crée une séquence de niveau 0, et dès que MERGE_FANOUT séquences
+ * d'un même niveau existent, elles sont fusionnées en une seule du niveau suivant. Seules
+ * des séquences de tailles voisines sont donc fusionnées, chaque élément est réécrit
+ * O(log(n / memoryBudget)) fois au plus, et il reste moins de MERGE_FANOUT séquences par
+ * niveau.
+ *
+ * Les fichiers sont supprimés à mesure que les séquences s'épuisent et par close().
+ */
+public class SpillingIntPriorityQueue implements Queue<Integer>, Closeable {
+
+    private static final int BLOCK_SIZE = 64 * 1024; // Taille des tampons d'E/S en octets
+    private static final int MERGE_FANOUT = 8;       // Séquences d'un niveau fusionnées ensemble
+
+    private final int memoryBudget;  // Nombre maximal d'éléments gardés en mémoire
+    private final Path directory;    // Répertoire des fichiers de débordement
+    private final boolean ownsDirectory;
+
+    private final int[] heap;        // Tas chaud (max-heap)
+    private int heapSize;
+    private final RunHeap runs = new RunHeap(); // Séquences, ordonnées par leur tête
+    private int size;                // Nombre total d'éléments (mémoire + disque)
+    private int runCounter;          // Pour nommer les fichiers de séquence
+    private long writtenElements;    // Éléments écrits sur disque (débordements et fusions)
+    private boolean closed;
+
+    /**
+     * Crée une file dont les débordements vont dans un répertoire temporaire privé
+     */
+    public SpillingIntPriorityQueue(int memoryBudget) {
+        this(memoryBudget, createTempDirectory(), true);
+    }
+
+    /**
+     * Crée une file dont les débordements vont dans le répertoire donné
+     */
+    public SpillingIntPriorityQueue(int memoryBudget, Path directory) {
+        this(memoryBudget, directory, false);
+    }
+
+    private SpillingIntPriorityQueue(int memoryBudget, Path directory, boolean ownsDirectory) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Le budget mémoire doit être positif");
+        }
+        if (directory == null) {
+            throw new IllegalArgumentException("Le répertoire ne doit pas être null");
+        }
+        this.memoryBudget = memoryBudget;
+        this.directory = directory;
+        this.ownsDirectory = ownsDirectory;
+        this.heap = new int[memoryBudget];
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("spilling-queue");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ajoute un élément ; le tas chaud est écrit sur disque s'il est plein
+     */
+    public void insert(int e) {
+        ensureOpen();
+        if (heapSize == memoryBudget) {
+            spill();
+        }
+
+        int index = heapSize;
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            if (e <= heap[parentIndex]) {
+                break;
+            }
+            heap[index] = heap[parentIndex];
+            index = parentIndex;
+        }
+        heap[index] = e;
+        heapSize++;
+        size++;
+    }
+
+    /**
+     * Consulte le plus grand élément sans le retirer
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        Run run = runs.top();
+        if (run != null && (heapSize == 0 || run.head > heap[0])) {
+            return run.head;
+        }
+        return heap[0];
+    }
+
+    /**
+     * Retire et retourne le plus grand élément
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        ensureOpen();
+        size--;
+
+        Run run = runs.top();
+        if (run != null && (heapSize == 0 || run.head > heap[0])) {
+            int value = run.head;
+            advanceTop(runs);
+            return value;
+        }
+
+        int maxElement = heap[0];
+        heapSize--;
+        if (heapSize > 0) {
+            heapifyDown(heap[heapSize]);
+        }
+        return maxElement;
+    }
+
+    private void heapifyDown(int e) {
+        int index = 0;
+        int half = heapSize / 2;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int rightChild = child + 1;
+            if (rightChild < heapSize && heap[rightChild] > heap[child]) {
+                child = rightChild;
+            }
+            if (e >= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = e;
+    }
+
+    // Avance la séquence de tête d'un tas de séquences, et la supprime si elle est épuisée
+    private static void advanceTop(RunHeap heap) {
+        Run run = heap.top();
+        if (run.advance()) {
+            heap.topChanged();
+        } else {
+            heap.removeTop();
+            run.delete();
+        }
+    }
+
+    // Trie le tas chaud et l'écrit comme nouvelle séquence décroissante ; en cas d'échec,
+    // le fichier partiel est supprimé et le tas chaud reste intact
+    private void spill() {
+        // Un tableau trié par ordre décroissant est encore un max-heap valide
+        Arrays.sort(heap, 0, heapSize);
+        for (int i = 0, j = heapSize - 1; i < j; i++, j--) {
+            int tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+        Path path = nextRunPath();
+        Run run;
+        try {
+            try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SIZE);
+                for (int i = 0; i < heapSize; i++) {
+                    if (!buffer.hasRemaining()) {
+                        flush(out, buffer);
+                    }
+                    buffer.putInt(heap[i]);
+                }
+                flush(out, buffer);
+            }
+            run = new Run(path, 0, heapSize, 0);
+        } catch (IOException e) {
+            throw deleteAfterFailure(path, new UncheckedIOException(e));
+        } catch (RuntimeException e) {
+            throw deleteAfterFailure(path, e);
+        }
+        runs.add(run);
+        writtenElements += heapSize;
+        heapSize = 0;
+
+        // Fusions en cascade : un niveau plein produit une séquence du niveau suivant
+        int level = 0;
+        while (mergeLevel(level)) {
+            level++;
+        }
+    }
+
+    // Fusionne les séquences du niveau donné si elles sont MERGE_FANOUT, par lecture et
+    // écriture séquentielles ; retourne true si une fusion a eu lieu
+    //
+    // Les sources sont relues par des curseurs indépendants et restent dans runs pendant
+    // l'écriture, qui se fait dans un fichier temporaire : ce n'est qu'une fois la séquence
+    // fusionnée complète et renommée que les sources sont retirées et supprimées. Un échec
+    // d'E/S laisse donc la file inchangée.
+    private boolean mergeLevel(int level) {
+        List<Run> sources = new ArrayList<>();
+        for (int i = 0; i < runs.size(); i++) {
+            if (runs.get(i).level == level) {
+                sources.add(runs.get(i));
+            }
+        }
+        if (sources.size() < MERGE_FANOUT) {
+            return false;
+        }
+
+        Path path = nextRunPath();
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        RunHeap cursors = new RunHeap();
+        long count = 0;
+        try {
+            for (Run source : sources) {
+                cursors.add(new Run(source.path, source.headIndex, source.remaining, level));
+            }
+            try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SIZE);
+                while (cursors.size() > 0) {
+                    if (!buffer.hasRemaining()) {
+                        flush(out, buffer);
+                    }
+                    Run cursor = cursors.top();
+                    buffer.putInt(cursor.head);
+                    count++;
+                    if (cursor.advance()) {
+                        cursors.topChanged();
+                    } else {
+                        cursors.removeTop();
+                        cursor.reader.close(); // Le fichier appartient encore à la source
+                    }
+                }
+                flush(out, buffer);
+            }
+            Files.move(temporary, path);
+        } catch (IOException e) {
+            throw abandonMerge(cursors, temporary, new UncheckedIOException(e));
+        } catch (RuntimeException e) {
+            throw abandonMerge(cursors, temporary, e);
+        }
+        Run merged;
+        try {
+            merged = new Run(path, 0, count, level + 1);
+        } catch (RuntimeException e) {
+            throw deleteAfterFailure(path, e);
+        }
+
+        for (Run source : sources) {
+            runs.remove(source);
+        }
+        runs.add(merged);
+        writtenElements += count;
+        for (Run source : sources) {
+            source.delete();
+        }
+        return true;
+    }
+
+    // Ferme les curseurs d'une fusion échouée et supprime son fichier temporaire
+    private static RuntimeException abandonMerge(RunHeap cursors, Path temporary, RuntimeException failure) {
+        while (cursors.size() > 0) {
+            cursors.top().reader.close();
+            cursors.removeTop();
+        }
+        return deleteAfterFailure(temporary, failure);
+    }
+
+    // Supprime un fichier incomplet ; un échec de suppression est rattaché à failure
+    private static RuntimeException deleteAfterFailure(Path path, RuntimeException failure) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private Path nextRunPath() {
+        return directory.resolve("run-" + System.identityHashCode(this) + "-" + (runCounter++) + ".bin");
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("La file est fermée");
+        }
+    }
+
+    /**
+     * Nombre de séquences actuellement sur disque
+     */
+    public int spilledRuns() {
+        return runs.size();
+    }
+
+    /**
+     * Nombre total d'éléments écrits sur disque depuis la création (débordements et fusions)
+     */
+    long writtenElements() {
+        return writtenElements;
+    }
+
+    public int memoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Ferme les fichiers et supprime les séquences restantes
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        while (runs.size() > 0) {
+            runs.top().delete();
+            runs.removeTop();
+        }
+        heapSize = 0;
+        size = 0;
+        if (ownsDirectory) {
+            try {
+                Files.deleteIfExists(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public boolean insertElement(Integer e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
+        }
+        insert(e);
+        return true;
+    }
+
+    @Override
+    public Integer element() {
+        return peek();
+    }
+
+    @Override
+    public Integer popElement() {
+        return pop();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Itérateur sur tous les éléments : d'abord le tas chaud, puis chaque séquence
+     * relue depuis sa tête courante (sans consommer la file)
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new SpillingIterator();
+    }
+
+    // Relit les séquences par lectures positionnelles sur leur propre canal : l'itérateur
+    // n'ouvre aucun fichier et peut être abandonné à tout moment
+    private class SpillingIterator implements Iterator<Integer> {
+        private final ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+        private int heapIndex = 0;
+        private int runIndex = 0;
+        private Run run;
+        private long offset; // Prochain octet du fichier de run à lire
+        private long left;   // Éléments de run restant à parcourir
+
+        @Override
+        public boolean hasNext() {
+            if (heapIndex < heapSize) {
+                return true;
+            }
+            while (left == 0) {
+                if (runIndex >= runs.size()) {
+                    return false;
+                }
+                run = runs.get(runIndex++);
+                offset = run.headIndex * Integer.BYTES;
+                left = run.remaining;
+                buffer.clear().limit(0);
+            }
+            return true;
+        }
+
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Aucun élément suivant");
+            }
+            if (heapIndex < heapSize) {
+                return heap[heapIndex++];
+            }
+            if (buffer.remaining() < Integer.BYTES) {
+                buffer.compact();
+                try {
+                    while (buffer.position() < Integer.BYTES) {
+                        int read = run.reader.channel.read(buffer, offset);
+                        if (read < 0) {
+                            throw new IllegalStateException("Fichier de séquence tronqué");
+                        }
+                        offset += read;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                buffer.flip();
+            }
+            left--;
+            return buffer.getInt();
+        }
+    }
+
+    /**
+     * Lecture séquentielle par blocs d'une tranche de fichier de séquence
+     */
+    private static class RunReader {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SIZE);
+        private long remaining;
+
+        RunReader(Path path, long firstIndex, long count) {
+            try {
+                this.channel = FileChannel.open(path, StandardOpenOption.READ);
+                this.channel.position(firstIndex * Integer.BYTES);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.remaining = count;
+            this.buffer.limit(0);
+        }
+
+        boolean hasNext() {
+            return remaining > 0;
+        }
+
+        int next() {
+            if (buffer.remaining() < Integer.BYTES) {
+                buffer.compact();
+                try {
+                    while (buffer.position() < Integer.BYTES) {
+                        if (channel.read(buffer) < 0) {
+                            throw new IllegalStateException("Fichier de séquence tronqué");
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                buffer.flip();
+            }
+            remaining--;
+            return buffer.getInt();
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Séquence triée sur disque dont la tête est gardée en mémoire
+     */
+    private static class Run {
+        final Path path;
+        final RunReader reader;
+        final int level;   // 0 pour un débordement, niveau des séquences fusionnées + 1 sinon
+        int head;          // Plus grand élément restant de la séquence
+        long headIndex;    // Position de la tête dans le fichier (en nombre d'int)
+        long remaining;    // Éléments restants, tête comprise
+        int heapIndex;     // Position dans le RunHeap qui la contient
+
+        // Séquence des count éléments du fichier à partir de l'indice firstIndex
+        Run(Path path, long firstIndex, long count, int level) {
+            this.path = path;
+            this.reader = new RunReader(path, firstIndex, count);
+            this.level = level;
+            this.remaining = count;
+            this.headIndex = firstIndex;
+            this.head = reader.next();
+        }
+
+        // Passe à l'élément suivant ; retourne false si la séquence est épuisée
+        boolean advance() {
+            remaining--;
+            if (remaining == 0) {
+                return false;
+            }
+            headIndex++;
+            head = reader.next();
+            return true;
+        }
+
+        void delete() {
+            reader.close();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Tas max de séquences ordonné par leur tête : la meilleure séquence est lue en O(1)
+     * et replacée en O(log r) quand sa tête avance ; chaque séquence connaît sa position,
+     * ce qui permet d'en retirer une quelconque (pour une fusion)
+     */
+    private static class RunHeap {
+        private Run[] runs = new Run[8];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        Run get(int i) {
+            return runs[i];
+        }
+
+        // Séquence dont la tête est la plus grande (null si le tas est vide)
+        Run top() {
+            return size == 0 ? null : runs[0];
+        }
+
+        void add(Run run) {
+            if (size == runs.length) {
+                runs = Arrays.copyOf(runs, size * 2);
+            }
+            place(run, size++);
+            siftUp(run.heapIndex);
+        }
+
+        // À appeler quand la tête de la séquence de tête a baissé
+        void topChanged() {
+            siftDown(0);
+        }
+
+        void removeTop() {
+            remove(runs[0]);
+        }
+
+        void remove(Run run) {
+            int i = run.heapIndex;
+            Run last = runs[--size];
+            runs[size] = null;
+            if (i < size) {
+                place(last, i);
+                siftDown(i);
+                siftUp(last.heapIndex);
+            }
+        }
+
+        private void siftUp(int i) {
+            Run run = runs[i];
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (run.head <= runs[parent].head) {
+                    break;
+                }
+                place(runs[parent], i);
+                i = parent;
+            }
+            place(run, i);
+        }
+
+        private void siftDown(int i) {
+            Run run = runs[i];
+            int half = size / 2;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && runs[child + 1].head > runs[child].head) {
+                    child++;
+                }
+                if (run.head >= runs[child].head) {
+                    break;
+                }
+                place(runs[child], i);
+                i = child;
+            }
+            place(run, i);
+        }
+
+        private void place(Run run, int i) {
+            runs[i] = run;
+            run.heapIndex = i;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package container;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Trace d'opérations sur une file : type d'opération, clé et instant (en nanosecondes
+ * depuis le début de l'enregistrement), stockés en tableaux primitifs parallèles
+ *
+ * Produite par RecordingQueue, rejouée par TraceReplayer ; write/read permettent de la
+ * conserver sur disque pour comparer les implémentations hors ligne sur un trafic réel.
+ */
+public final class Trace {
+
+    public static final byte INSERT = 0;
+    public static final byte POP = 1;
+    public static final byte PEEK = 2;
+
+    private static final int MAGIC = 0x51545243; // "QTRC"
+
+    private byte[] ops;
+    private int[] keys;
+    private long[] times;
+    private int size;
+
+    public Trace() {
+        this(1024);
+    }
+
+    public Trace(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        ops = new byte[capacity];
+        keys = new int[capacity];
+        times = new long[capacity];
+    }
+
+    /**
+     * Ajoute une opération à la fin de la trace
+     */
+    public void add(byte op, int key, long timeNanos) {
+        if (op < INSERT || op > PEEK) {
+            throw new IllegalArgumentException("Opération inconnue : " + op);
+        }
+        if (size == ops.length) {
+            int newCapacity = ops.length * 2;
+            ops = Arrays.copyOf(ops, newCapacity);
+            keys = Arrays.copyOf(keys, newCapacity);
+            times = Arrays.copyOf(times, newCapacity);
+        }
+        ops[size] = op;
+        keys[size] = key;
+        times[size] = timeNanos;
+        size++;
+    }
+
+    public byte op(int i) {
+        checkIndex(i);
+        return ops[i];
+    }
+
+    /**
+     * Clé de l'opération : clé insérée, ou clé obtenue pour POP et PEEK
+     */
+    public int key(int i) {
+        checkIndex(i);
+        return keys[i];
+    }
+
+    public long timeNanos(int i) {
+        checkIndex(i);
+        return times[i];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Indice hors de la trace : " + i);
+        }
+    }
+
+    /**
+     * Écrit la trace dans un fichier (format binaire compact, 13 octets par opération)
+     */
+    public void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeByte(ops[i]);
+                out.writeInt(keys[i]);
+                out.writeLong(times[i]);
+            }
+        }
+    }
+
+    /**
+     * Relit une trace écrite par write
+     */
+    public static Trace read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Fichier de trace invalide : " + file);
+            }
+            int count = in.readInt();
+            Trace trace = new Trace(Math.max(1, count));
+            for (int i = 0; i < count; i++) {
+                byte op = in.readByte();
+                int key = in.readInt();
+                long time = in.readLong();
+                trace.add(op, key, time);
+            }
+            return trace;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package container;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Rejoue une Trace en boucle ouverte à un débit cible et mesure la latence de chaque
+ * opération dans un LatencyHistogram
+ *
+ * L'opération i est programmée à l'instant start + i / opsPerSecond, quelle que soit la
+ * durée des opérations précédentes, et sa latence est mesurée depuis cet instant prévu :
+ * un redimensionnement qui bloque la file pendant 5 ms retarde toutes les opérations
+ * suivantes, et ce retard apparaît dans les percentiles au lieu d'être masqué
+ * ("coordinated omission").
+ *
+ * Les POP et PEEK sur une file vide sont ignorés (la file rejouée peut ne pas être
+ * celle d'origine) mais restent chronométrés.
+ */
+public final class TraceReplayer {
+
+    private final double opsPerSecond;
+    private long sink; // Consomme les résultats pour que le JIT ne les élimine pas
+
+    public TraceReplayer(double opsPerSecond) {
+        if (!(opsPerSecond > 0)) {
+            throw new IllegalArgumentException("Le débit doit être positif");
+        }
+        this.opsPerSecond = opsPerSecond;
+    }
+
+    /**
+     * Rejoue la trace sur la file donnée
+     */
+    public LatencyHistogram replay(Trace trace, Queue<Integer> queue) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        double interval = 1e9 / opsPerSecond;
+        long start = System.nanoTime();
+        for (int i = 0; i < trace.size(); i++) {
+            long intended = start + (long) (i * interval);
+            while (System.nanoTime() < intended) {
+                Thread.onSpinWait();
+            }
+            execute(queue, trace.op(i), trace.key(i));
+            histogram.record(System.nanoTime() - intended);
+        }
+        return histogram;
+    }
+
+    private void execute(Queue<Integer> queue, byte op, int key) {
+        switch (op) {
+            case Trace.INSERT:
+                queue.insertElement(key);
+                break;
+            case Trace.POP:
+                if (!queue.isEmpty()) {
+                    sink += queue.popElement();
+                }
+                break;
+            default:
+                if (!queue.isEmpty()) {
+                    sink += queue.element();
+                }
+                break;
+        }
+    }
+
+    /**
+     * Rejoue la même trace sur une file neuve de chaque implémentation
+     *
+     * @return les histogrammes, dans l'ordre des implémentations
+     */
+    public Map<String, LatencyHistogram> compare(Trace trace,
+            Map<String, Supplier<? extends Queue<Integer>>> implementations) {
+        Map<String, LatencyHistogram> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Supplier<? extends Queue<Integer>>> entry : implementations.entrySet()) {
+            results.put(entry.getKey(), replay(trace, entry.getValue().get()));
+        }
+        return results;
+    }
+
+    /**
+     * Une ligne par implémentation : nom puis percentiles
+     */
+    public static String report(Map<String, LatencyHistogram> results) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, LatencyHistogram> entry : results.entrySet()) {
+            sb.append(String.format("%-28s %s%n", entry.getKey(), entry.getValue()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Usage : TraceReplayer fichier-de-trace débit-en-ops-par-seconde
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage : TraceReplayer <trace> <ops/s>");
+            return;
+        }
+        Trace trace = Trace.read(Paths.get(args[0]));
+        TraceReplayer replayer = new TraceReplayer(Double.parseDouble(args[1]));
+
+        Map<String, Supplier<? extends Queue<Integer>>> implementations = new LinkedHashMap<>();
+        implementations.put("IntPriorityQueue", () -> new IntPriorityQueue(16));
+        implementations.put("GenPriorityQueue", () -> new GenPriorityQueue<Integer>(16));
+        implementations.put("WideIntPriorityQueue", () -> new WideIntPriorityQueue(16));
+        implementations.put("AdaptiveIntPriorityQueue", () -> new AdaptiveIntPriorityQueue(16));
+        implementations.put("SegmentedGenPriorityQueue", () -> new SegmentedGenPriorityQueue<Integer>());
+        implementations.put("IntFIFO", () -> new IntFIFO(16));
+
+        replayer.compare(trace, implementations); // Préchauffage du JIT
+        System.out.print(report(replayer.compare(trace, implementations)));
+    }
+}
@@ -0,0 +1,196 @@
+package container;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * File multi-locataires équitable et pondérée : une IntFIFO par locataire, servies
+ * à tour de rôle par "deficit round robin"
+ *
+ * À chaque tour, un locataire actif peut sortir jusqu'à weight éléments avant de passer
+ * la main au suivant : un locataire bruyant ne peut donc pas affamer les autres, et la
+ * part de chacun est proportionnelle à son poids. Les locataires actifs (file non vide)
+ * sont marqués dans un bitmap et chaînés dans un anneau (lui-même une IntFIFO) :
+ * enqueue et dequeue sont en O(1), quel que soit le nombre de locataires.
+ *
+ * Les IntFIFO des locataires et l'anneau sont en redimensionnement incrémental : une
+ * file pleine double sa capacité et migre ses éléments par lots, si bien qu'aucun
+ * enqueue ne recopie toute la file d'un locataire.
+ */
+public class WeightedFairQueue {
+
+    private final int ringCapacity;  // Capacité initiale de la file de chaque locataire
+    private IntFIFO[] tenants = new IntFIFO[0];
+    private int[] weights = new int[0];
+    private int[] deficits = new int[0]; // Éléments encore autorisés pendant le tour courant
+    private long[] activeBits = new long[0];
+    private int tenantCount;
+
+    private final IntFIFO activeRing;    // Locataires actifs, dans l'ordre de passage
+    private int size;
+
+    public WeightedFairQueue(int ringCapacity) {
+        if (ringCapacity <= 0) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        this.ringCapacity = ringCapacity;
+        this.activeRing = newRing(16);
+    }
+
+    private static IntFIFO newRing(int capacity) {
+        IntFIFO ring = new IntFIFO(capacity);
+        ring.setIncrementalResize(true);
+        return ring;
+    }
+
+    /**
+     * Enregistre un nouveau locataire et retourne son identifiant (0, 1, 2...)
+     */
+    public int addTenant(int weight) {
+        checkWeight(weight);
+        if (tenantCount == tenants.length) {
+            int newLength = Math.max(8, tenants.length * 2);
+            tenants = Arrays.copyOf(tenants, newLength);
+            weights = Arrays.copyOf(weights, newLength);
+            deficits = Arrays.copyOf(deficits, newLength);
+            activeBits = Arrays.copyOf(activeBits, (newLength + 63) / 64);
+        }
+        int tenant = tenantCount++;
+        tenants[tenant] = newRing(ringCapacity);
+        weights[tenant] = weight;
+        return tenant;
+    }
+
+    /**
+     * Modifie le poids d'un locataire ; s'applique à partir de son prochain tour
+     */
+    public void setWeight(int tenant, int weight) {
+        checkTenant(tenant);
+        checkWeight(weight);
+        weights[tenant] = weight;
+    }
+
+    public int weight(int tenant) {
+        checkTenant(tenant);
+        return weights[tenant];
+    }
+
+    /**
+     * Ajoute un élément dans la file du locataire
+     */
+    public void enqueue(int tenant, int value) {
+        checkTenant(tenant);
+        tenants[tenant].insertElement(value);
+        size++;
+        if (!isActive(tenant)) {
+            activeBits[tenant >>> 6] |= 1L << tenant;
+            activeRing.insertElement(tenant);
+        }
+    }
+
+    /**
+     * Retire le prochain élément selon l'ordonnancement pondéré
+     */
+    public int dequeue() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        int tenant = activeRing.element();
+        if (deficits[tenant] == 0) {
+            deficits[tenant] = weights[tenant]; // Début de tour du locataire
+        }
+        IntFIFO ring = tenants[tenant];
+        int value = ring.popElement();
+        deficits[tenant]--;
+        size--;
+        endTurnIfNeeded(tenant, ring);
+        return value;
+    }
+
+    /**
+     * Retire jusqu'à max éléments dans out à partir de offset, dans l'ordre de dequeue()
+     * Les éléments d'un même tour sont sortis d'un bloc pour chaque locataire
+     *
+     * @return le nombre d'éléments retirés
+     */
+    public int dequeueBatch(int[] out, int offset, int max) {
+        if (out == null || offset < 0 || max < 0 || offset + max > out.length) {
+            throw new IllegalArgumentException("Tampon de sortie invalide");
+        }
+        int count = 0;
+        while (count < max && size > 0) {
+            int tenant = activeRing.element();
+            if (deficits[tenant] == 0) {
+                deficits[tenant] = weights[tenant];
+            }
+            IntFIFO ring = tenants[tenant];
+            int n = Math.min(max - count, Math.min(deficits[tenant], ring.size()));
+            for (int i = 0; i < n; i++) {
+                out[offset + count++] = ring.popElement();
+            }
+            deficits[tenant] -= n;
+            size -= n;
+            endTurnIfNeeded(tenant, ring);
+        }
+        return count;
+    }
+
+    // Passe au locataire suivant si le tour est fini ; désactive le locataire s'il est vide
+    private void endTurnIfNeeded(int tenant, IntFIFO ring) {
+        if (ring.isEmpty()) {
+            activeRing.popElement();
+            activeBits[tenant >>> 6] &= ~(1L << tenant);
+            deficits[tenant] = 0; // Pas de crédit accumulé en restant inactif
+        } else if (deficits[tenant] == 0) {
+            activeRing.popElement();
+            activeRing.insertElement(tenant);
+        }
+    }
+
+    /**
+     * Indique si le locataire a des éléments en attente (lecture du bitmap)
+     */
+    public boolean isActive(int tenant) {
+        checkTenant(tenant);
+        return (activeBits[tenant >>> 6] & (1L << tenant)) != 0;
+    }
+
+    /**
+     * Nombre de locataires ayant des éléments en attente
+     */
+    public int activeTenants() {
+        return activeRing.size();
+    }
+
+    public int tenantCount() {
+        return tenantCount;
+    }
+
+    /**
+     * Nombre d'éléments en attente pour un locataire
+     */
+    public int size(int tenant) {
+        checkTenant(tenant);
+        return tenants[tenant].size();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void checkTenant(int tenant) {
+        if (tenant < 0 || tenant >= tenantCount) {
+            throw new IllegalArgumentException("Locataire inconnu : " + tenant);
+        }
+    }
+
+    private static void checkWeight(int weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Le poids doit être positif");
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package container;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Variante de IntPriorityQueue pour les grands tas d'int : tas d-aire (8 ou 16 enfants
+ * par nœud) stocké dans un tableau int[] primitif
+ *
+ * Les enfants d'un nœud sont contigus dans le tableau (un groupe de 16 int occupe
+ * 64 octets, lus d'un seul balayage ; la JVM ne garantit pas l'alignement du tableau sur
+ * les lignes de cache, un groupe peut donc en chevaucher deux). Le choix
+ * du meilleur enfant se fait en deux passes de longueur fixe, sans saut dépendant des
+ * données : une réduction max, forme que le JIT sait vectoriser, puis une recherche
+ * d'index où la comparaison devient un masque au lieu d'un branchement.
+ */
+public class WideIntPriorityQueue implements Queue<Integer> {
+
+    private final int arity;     // Nombre d'enfants par nœud
+    private final int offset;    // Décalage de la racine : groupes d'enfants à un indice multiple de l'arité
+    private int[] heap;          // Nœud logique i rangé en heap[offset + i]
+    private int size;            // Nombre d'éléments dans le tas
+    private int capacity;        // Nombre d'éléments que le tableau peut contenir
+
+    public WideIntPriorityQueue(int capacity) {
+        this(capacity, 16);
+    }
+
+    /**
+     * @param arity nombre d'enfants par nœud : 8 ou 16
+     */
+    public WideIntPriorityQueue(int capacity, int arity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacité doit être positive");
+        }
+        if (arity != 8 && arity != 16) {
+            throw new IllegalArgumentException("L'arité doit valoir 8 ou 16");
+        }
+        this.arity = arity;
+        this.offset = arity - 1;
+        this.capacity = capacity;
+        this.heap = new int[offset + capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Ajoute un élément sans boxing
+     */
+    public void insert(int e) {
+        if (size == capacity) {
+            resize();
+        }
+
+        // Remonter un "trou" depuis la fin
+        int index = size;
+        while (index > 0) {
+            int parentIndex = (index - 1) / arity;
+            int parent = heap[offset + parentIndex];
+            if (e <= parent) {
+                break;
+            }
+            heap[offset + index] = parent;
+            index = parentIndex;
+        }
+        heap[offset + index] = e;
+        size++;
+    }
+
+    private void resize() {
+        int newCapacity = capacity * 2;
+        heap = Arrays.copyOf(heap, offset + newCapacity);
+        capacity = newCapacity;
+    }
+
+    /**
+     * Consulte le plus grand élément sans boxing
+     */
+    public int peek() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+        return heap[offset];
+    }
+
+    /**
+     * Retire et retourne le plus grand élément sans boxing
+     */
+    public int pop() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("La file est vide");
+        }
+
+        int maxElement = heap[offset];
+        size--;
+        if (size > 0) {
+            heapifyDown(heap[offset + size]);
+        }
+        return maxElement;
+    }
+
+    // Redescend l'élément e depuis la racine
+    private void heapifyDown(int e) {
+        int index = 0;
+        while (true) {
+            int first = arity * index + 1; // Premier enfant (indice logique)
+            if (first >= size) {
+                break;
+            }
+            int child = bestChild(offset + first, Math.min(arity, size - first));
+
+            // Si la propriété de tas est respectée, arrêter
+            if (e >= heap[child]) {
+                break;
+            }
+
+            heap[offset + index] = heap[child];
+            index = child - offset;
+        }
+        heap[offset + index] = e;
+    }
+
+    // Retourne la position physique du plus grand des count enfants commençant en from
+    private int bestChild(int from, int count) {
+        // Passe 1 : réduction max
+        int max = heap[from];
+        for (int k = 1; k < count; k++) {
+            max = Math.max(max, heap[from + k]);
+        }
+        // Passe 2 : recherche de l'index du maximum par masque (d | -d n'a le bit de
+        // signe nul que pour d == 0) ; à rebours, le premier maximum est retenu en dernier
+        int child = from;
+        for (int k = count - 1; k >= 0; k--) {
+            int d = heap[from + k] ^ max;
+            int mask = ~((d | -d) >> 31); // -1 si heap[from + k] == max, 0 sinon
+            child = (child & ~mask) | ((from + k) & mask);
+        }
+        return child;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    @Override
+    public boolean insertElement(Integer e) {
+        if (e == null) {
+            throw new IllegalArgumentException("Les éléments null ne sont pas autorisés");
+        }
+        insert(e);
+        return true;
+    }
+
+    @Override
+    public Integer element() {
+        return peek();
+    }
+
+    @Override
+    public Integer popElement() {
+        return pop();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Itérateur pour parcourir les éléments dans l'ordre du tas
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new WideIntPriorityQueueIterator();
+    }
+
+    private class WideIntPriorityQueueIterator implements Iterator<Integer> {
+        private int currentIndex = 0;
+
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Aucun élément suivant");
+            }
+            return heap[offset + currentIndex++];
+        }
+    }
+
+    /**
+     * Retourne une représentation en chaîne de la file de priorité
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(heap[offset + i]);
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
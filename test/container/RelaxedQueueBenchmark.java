@@ -0,0 +1,88 @@
+package container;
+
+import java.util.Random;
+
+/**
+ * Micro-benchmark : débit et erreur de rang de RelaxedIntPriorityQueue selon k, comparés
+ * à la file exacte IntPriorityQueue
+ *
+ * Charge mixte (60 % d'insertions, 40 % de retraits) sur des clés dans [0, 2^20).
+ * Le débit est mesuré sans instrumentation ; l'erreur de rang est mesurée dans une
+ * seconde passe identique, en miroir dans une RankedIntPriorityQueue (rang = 1 +
+ * nombre d'éléments strictement plus grands au moment du retrait).
+ * Ce n'est pas un test JUnit (surefire l'ignore), il se lance à la main :
+ *
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes container.RelaxedQueueBenchmark [opérations]
+ */
+public class RelaxedQueueBenchmark {
+
+    private static final int KEY_RANGE = 1 << 20;
+
+    public static void main(String[] args) {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int[] keys = new Random(44).ints(operations, 0, KEY_RANGE).toArray();
+        boolean[] inserts = new boolean[operations];
+        Random random = new Random(45);
+        for (int i = 0; i < operations; i++) {
+            inserts[i] = i < 1000 || random.nextInt(5) < 3;
+        }
+
+        System.out.printf("%-28s %12s %10s %10s%n", "file", "Mops/s", "rang moy", "rang max");
+        for (int round = 0; round < 2; round++) { // Premier tour = préchauffage
+            boolean print = round == 1;
+            // Capacité initiale suffisante : IntPriorityQueue ne grandit que d'une case à la fois
+            report(print, "IntPriorityQueue", throughput(new IntPriorityQueue(operations), keys, inserts), 1, 1);
+            for (int k : new int[] {1, 4, 16, 64, 256}) {
+                double mops = throughput(new RelaxedIntPriorityQueue(operations, k), keys, inserts);
+                long[] error = rankError(new RelaxedIntPriorityQueue(operations, k), keys, inserts);
+                report(print, "RelaxedIntPriorityQueue k=" + k, mops,
+                    (double) error[0] / Math.max(1, error[1]), error[2]);
+            }
+        }
+    }
+
+    private static void report(boolean print, String name, double mops, double meanRank, long maxRank) {
+        if (print) {
+            System.out.printf("%-28s %12.1f %10.2f %10d%n", name, mops, meanRank, maxRank);
+        }
+    }
+
+    // Débit en millions d'opérations par seconde
+    private static double throughput(Queue<Integer> queue, int[] keys, boolean[] inserts) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < keys.length; i++) {
+            if (inserts[i] || queue.isEmpty()) {
+                queue.insertElement(keys[i]);
+            } else {
+                sink += queue.popElement();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink == 42) {
+            System.out.print(""); // Empêche l'élimination de la boucle
+        }
+        return keys.length / (elapsed / 1e3);
+    }
+
+    // { somme des rangs, nombre de retraits, rang maximal }
+    private static long[] rankError(RelaxedIntPriorityQueue queue, int[] keys, boolean[] inserts) {
+        RankedIntPriorityQueue ranks = new RankedIntPriorityQueue(0, KEY_RANGE - 1);
+        long[] result = new long[3];
+        for (int i = 0; i < keys.length; i++) {
+            if (inserts[i] || queue.isEmpty()) {
+                queue.insert(keys[i]);
+                ranks.insert(keys[i]);
+            } else {
+                int popped = queue.pop();
+                int rank = ranks.rank(popped);
+                result[0] += rank;
+                result[1]++;
+                result[2] = Math.max(result[2], rank);
+                ranks.remove(popped);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,234 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour AdaptiveIntPriorityQueue (représentation adaptative - Max-Heap)
+ */
+public class TestAdaptiveIntPriorityQueue {
+
+    private AdaptiveIntPriorityQueue queue;
+    private IntPriorityQueue reference;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new AdaptiveIntPriorityQueue(3);
+        reference = new IntPriorityQueue(3);
+    }
+
+    private void insertBoth(int value) {
+        queue.insert(value);
+        reference.insertElement(value);
+    }
+
+    private void popBoth() {
+        assertEquals(reference.popElement(), queue.pop());
+    }
+
+    private void drainAndCompare() {
+        while (!reference.isEmpty()) {
+            popBoth();
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_newQueueIsEmpty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(AdaptiveIntPriorityQueue.Mode.BINARY_HEAP, queue.mode());
+        assertEquals(0, queue.migrations());
+    }
+
+    @Test
+    public void test_maxHeapProperty() {
+        queue.insertElement(10);
+        queue.insertElement(30);
+        queue.insertElement(20);
+
+        assertEquals(30, queue.element());
+        assertEquals(30, queue.popElement());
+        assertEquals(20, queue.popElement());
+        assertEquals(10, queue.popElement());
+    }
+
+    // === Tests d'adaptation ===
+
+    @Test
+    public void test_smallKeyRangeSwitchesToBuckets() {
+        Random random = new Random(1);
+        for (int i = 0; i < 5000; i++) {
+            insertBoth(random.nextInt(100));
+            if (i % 5 == 0) {
+                popBoth();
+            }
+        }
+        assertEquals(AdaptiveIntPriorityQueue.Mode.BUCKET_QUEUE, queue.mode());
+        drainAndCompare();
+    }
+
+    @Test
+    public void test_monotoneKeysSwitchToRadix() {
+        // Échéances décroissantes : aucune clé ne dépasse la dernière retirée
+        Random random = new Random(2);
+        int deadline = Integer.MAX_VALUE;
+        for (int i = 0; i < 5000; i++) {
+            insertBoth(deadline - random.nextInt(1_000_000));
+            if (i % 2 == 1) {
+                deadline = reference.element();
+                popBoth();
+            }
+        }
+        assertEquals(AdaptiveIntPriorityQueue.Mode.RADIX_HEAP, queue.mode());
+        drainAndCompare();
+    }
+
+    @Test
+    public void test_randomKeysStayInHeap() {
+        Random random = new Random(3);
+        for (int i = 0; i < 5000; i++) {
+            insertBoth(random.nextInt());
+            if (i % 3 == 0) {
+                popBoth();
+            }
+        }
+        assertEquals(AdaptiveIntPriorityQueue.Mode.BINARY_HEAP, queue.mode());
+        assertEquals(0, queue.migrations());
+        drainAndCompare();
+    }
+
+    @Test
+    public void test_isolatedIncompatibleInsertGoesToOverflow() {
+        for (int i = 0; i < 3000; i++) {
+            insertBoth(i % 50);
+        }
+        assertEquals(AdaptiveIntPriorityQueue.Mode.BUCKET_QUEUE, queue.mode());
+
+        insertBoth(Integer.MIN_VALUE); // Hors de portée des compteurs
+        insertBoth(Integer.MAX_VALUE);
+        assertEquals(AdaptiveIntPriorityQueue.Mode.BUCKET_QUEUE, queue.mode());
+        assertEquals(Integer.MAX_VALUE, queue.peek()); // Le débordement est consulté
+        drainAndCompare();
+    }
+
+    @Test
+    public void test_manyIncompatibleInsertsForceHeap() {
+        for (int i = 0; i < 3000; i++) {
+            insertBoth(i % 50);
+        }
+        for (int i = 0; i < 500; i++) {
+            insertBoth(Integer.MIN_VALUE + i); // Le débordement finit par être trop gros
+        }
+        assertEquals(AdaptiveIntPriorityQueue.Mode.BINARY_HEAP, queue.mode());
+        drainAndCompare();
+    }
+
+    @Test
+    public void test_sporadicOutliersDoNotThrash() {
+        // Clés dans une petite plage, avec de temps en temps une valeur très éloignée
+        Random random = new Random(35);
+        for (int i = 0; i < 60_000; i++) {
+            insertBoth(i % 3000 == 2999 ? 1_000_000 + i : random.nextInt(500));
+            if (i % 3 == 0) {
+                popBoth();
+            }
+        }
+        assertEquals(AdaptiveIntPriorityQueue.Mode.BUCKET_QUEUE, queue.mode());
+        assertTrue(queue.migrations() <= 2, "Migrations : " + queue.migrations());
+        drainAndCompare();
+    }
+
+    @Test
+    public void test_radixOverflowKeepsOrder() {
+        Random random = new Random(36);
+        int deadline = Integer.MAX_VALUE;
+        for (int i = 0; i < 20_000; i++) {
+            // Quelques clés non monotones au milieu d'échéances décroissantes
+            insertBoth(i % 2000 == 1999 ? Integer.MAX_VALUE - i : deadline - random.nextInt(1_000_000));
+            if (i % 2 == 1) {
+                deadline = Math.min(deadline, reference.element());
+                popBoth();
+            }
+        }
+        assertTrue(queue.migrations() <= 2, "Migrations : " + queue.migrations());
+        drainAndCompare();
+    }
+
+    @Test
+    public void test_wideContentBacksOffBucketCandidacy() {
+        Random random = new Random(37);
+        for (int i = 0; i < 5000; i++) {
+            insertBoth(random.nextInt(1_000_000)); // Contenu étalé, jamais retiré
+        }
+        for (int i = 0; i < 50_000; i++) {
+            insertBoth(random.nextInt(100)); // Fenêtres étroites, mais la file ne tient pas
+        }
+        // Pas de retrait : le radix reste possible, mais jamais les compteurs
+        assertNotEquals(AdaptiveIntPriorityQueue.Mode.BUCKET_QUEUE, queue.mode());
+        drainAndCompare();
+    }
+
+    @Test
+    public void test_bucketRangeFollowsKeys() {
+        for (int i = 0; i < 3000; i++) {
+            insertBoth(1000 + i % 50);
+        }
+        assertEquals(AdaptiveIntPriorityQueue.Mode.BUCKET_QUEUE, queue.mode());
+
+        // Sortir de la plage en restant dans l'écart autorisé : pas de migration
+        insertBoth(900);
+        insertBoth(3000);
+        assertEquals(AdaptiveIntPriorityQueue.Mode.BUCKET_QUEUE, queue.mode());
+        drainAndCompare();
+    }
+
+    @Test
+    public void test_hysteresisAvoidsThrashing() {
+        // Alterner une fenêtre étroite et une fenêtre large ne fait pas migrer
+        Random random = new Random(4);
+        for (int round = 0; round < 6; round++) {
+            for (int i = 0; i < 1024; i++) {
+                insertBoth(round % 2 == 0 ? random.nextInt(10) : random.nextInt());
+            }
+        }
+        assertEquals(0, queue.migrations());
+        drainAndCompare();
+    }
+
+    // === Tests de l'itérateur et toString ===
+
+    @Test
+    public void test_iteratorInBucketMode() {
+        for (int i = 0; i < 3000; i++) {
+            queue.insert(i % 7);
+        }
+        long sum = 0;
+        for (int value : queue) {
+            sum += value;
+        }
+        assertEquals(3000 / 7 * 21 + 0 + 1 + 2 + 3, sum);
+        assertTrue(queue.toString().startsWith("BUCKET_QUEUE"));
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_emptyQueueErrors() {
+        assertThrows(NoSuchElementException.class, () -> queue.peek());
+        assertThrows(NoSuchElementException.class, () -> queue.pop());
+        Iterator<Integer> it = queue.iterator();
+        assertThrows(NoSuchElementException.class, () -> it.next());
+    }
+
+    @Test
+    public void test_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> queue.insertElement(null));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveIntPriorityQueue(0));
+    }
+}
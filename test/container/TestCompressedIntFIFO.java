@@ -0,0 +1,134 @@
+package container;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour CompressedIntFIFO (blocs d'écarts empaquetés)
+ */
+public class TestCompressedIntFIFO {
+
+    private CompressedIntFIFO fifo;
+
+    @BeforeEach
+    public void setUp() {
+        fifo = new CompressedIntFIFO();
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_emptyFifo() {
+        assertTrue(fifo.isEmpty());
+        assertEquals(0, fifo.size());
+        assertThrows(NoSuchElementException.class, fifo::element);
+        assertThrows(NoSuchElementException.class, fifo::popElement);
+        assertThrows(IllegalArgumentException.class, () -> fifo.insertElement(null));
+        assertEquals("[]", fifo.toString());
+    }
+
+    @Test
+    public void test_fifoOrder() {
+        fifo.insertElement(3);
+        fifo.insertElement(1);
+        fifo.insertElement(2);
+        assertEquals(3, fifo.element());
+        assertEquals("[3, 1, 2]", fifo.toString());
+        assertEquals(3, fifo.popElement());
+        assertEquals(1, fifo.popElement());
+        assertEquals(2, fifo.popElement());
+        assertTrue(fifo.isEmpty());
+    }
+
+    // === Tests de compression ===
+
+    @Test
+    public void test_sequentialIdsAreCompressed() {
+        int n = 100_000;
+        for (int i = 0; i < n; i++) {
+            fifo.insert(1_000_000 + i);
+        }
+        assertEquals(n, fifo.size());
+        assertTrue(fifo.blockCount() > 700);
+        // 4 octets par valeur non compressée ; ici quelques bits par valeur
+        assertTrue(fifo.storageBytes() * 10 < 4L * n, "Occupation : " + fifo.storageBytes());
+        for (int i = 0; i < n; i++) {
+            assertEquals(1_000_000 + i, fifo.pop());
+        }
+        assertTrue(fifo.isEmpty());
+    }
+
+    @Test
+    public void test_extremeDeltas() {
+        int[] values = {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, Integer.MIN_VALUE, 7};
+        for (int round = 0; round < 100; round++) {
+            for (int value : values) {
+                fifo.insert(value);
+            }
+        }
+        for (int round = 0; round < 100; round++) {
+            for (int value : values) {
+                assertEquals(value, fifo.pop());
+            }
+        }
+    }
+
+    @Test
+    public void test_constantValues() {
+        for (int i = 0; i < 1000; i++) {
+            fifo.insert(42); // Écarts nuls : 0 bit par valeur
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(42, fifo.pop());
+        }
+    }
+
+    @Test
+    public void test_randomInterleavingMatchesArrayDeque() {
+        Random random = new Random(48);
+        ArrayDeque<Integer> reference = new ArrayDeque<>();
+        int next = 0;
+        for (int i = 0; i < 200_000; i++) {
+            if (random.nextInt(3) != 0 || reference.isEmpty()) {
+                next += random.nextInt(20) - 5;
+                fifo.insert(next);
+                reference.addLast(next);
+            } else {
+                assertEquals(reference.pollFirst(), fifo.popElement());
+            }
+            assertEquals(reference.size(), fifo.size());
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.pollFirst(), fifo.popElement());
+        }
+        assertTrue(fifo.isEmpty());
+    }
+
+    // === Tests de l'itérateur ===
+
+    @Test
+    public void test_iteratorAcrossBlocks() {
+        for (int i = 0; i < 1000; i++) {
+            fifo.insert(i);
+        }
+        for (int i = 0; i < 300; i++) {
+            fifo.pop();
+        }
+        int expected = 300;
+        for (int value : fifo) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(1000, expected);
+        assertEquals(300, fifo.peek()); // La tête n'a pas été modifiée par le parcours
+        assertEquals(700, fifo.size());
+
+        Iterator<Integer> it = new CompressedIntFIFO().iterator();
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+}
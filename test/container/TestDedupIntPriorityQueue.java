@@ -0,0 +1,149 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour DedupIntPriorityQueue (file de priorité sans doublons)
+ */
+public class TestDedupIntPriorityQueue {
+
+    private DedupIntPriorityQueue queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new DedupIntPriorityQueue(3);
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_newQueueIsEmpty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertFalse(queue.contains(0));
+    }
+
+    @Test
+    public void test_insertIfAbsentRejectsDuplicates() {
+        assertTrue(queue.insertIfAbsent(42, 5));
+        assertFalse(queue.insertIfAbsent(42, 100)); // Priorité ignorée
+
+        assertEquals(1, queue.size());
+        assertTrue(queue.contains(42));
+        assertEquals(5, queue.priorityOf(42));
+    }
+
+    @Test
+    public void test_insertOrKeepBest() {
+        queue.insertOrKeepBest(1, 10);
+        queue.insertOrKeepBest(2, 20);
+
+        assertFalse(queue.insertOrKeepBest(1, 5));  // Moins bonne : ignorée
+        assertTrue(queue.insertOrKeepBest(1, 30));  // Meilleure : remonte en tête
+
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.peekId());
+        assertEquals(30, queue.peekPriority());
+    }
+
+    // === Tests de priorité ===
+
+    @Test
+    public void test_popOrderAndMembership() {
+        queue.insertIfAbsent(7, 1);
+        queue.insertIfAbsent(8, 3);
+        queue.insertIfAbsent(9, 2);
+
+        assertEquals(8, queue.pop());
+        assertFalse(queue.contains(8));
+        assertEquals(9, queue.pop());
+        assertEquals(7, queue.pop());
+        assertTrue(queue.isEmpty());
+
+        // Un identifiant retiré peut être réinséré
+        assertTrue(queue.insertIfAbsent(8, 1));
+    }
+
+    @Test
+    public void test_negativeAndExtremeIds() {
+        queue.insertIfAbsent(-1, 1);
+        queue.insertIfAbsent(Integer.MIN_VALUE, 2);
+        queue.insertIfAbsent(Integer.MAX_VALUE, 3);
+
+        assertTrue(queue.contains(-1));
+        assertTrue(queue.contains(Integer.MIN_VALUE));
+        assertEquals(Integer.MAX_VALUE, queue.pop());
+        assertEquals(Integer.MIN_VALUE, queue.pop());
+        assertEquals(-1, queue.pop());
+    }
+
+    @Test
+    public void test_randomOperationsAgainstMap() {
+        Random random = new Random(13);
+        Map<Integer, Integer> reference = new HashMap<>();
+        for (int step = 0; step < 20000; step++) {
+            int id = random.nextInt(500);
+            int priority = random.nextInt(1000);
+            int op = random.nextInt(3);
+            if (op == 0) {
+                assertEquals(!reference.containsKey(id), queue.insertIfAbsent(id, priority));
+                reference.putIfAbsent(id, priority);
+            } else if (op == 1) {
+                Integer current = reference.get(id);
+                boolean changed = current == null || priority > current;
+                assertEquals(changed, queue.insertOrKeepBest(id, priority));
+                reference.merge(id, priority, Math::max);
+            } else if (!reference.isEmpty()) {
+                int best = reference.values().stream().max(Integer::compare).get();
+                assertEquals(best, queue.peekPriority());
+                int popped = queue.pop();
+                assertEquals(best, (int) reference.remove(popped));
+            }
+            assertEquals(reference.size(), queue.size());
+        }
+        for (Map.Entry<Integer, Integer> entry : reference.entrySet()) {
+            assertEquals(entry.getValue(), queue.priorityOf(entry.getKey()));
+        }
+    }
+
+    // === Tests de redimensionnement et toString ===
+
+    @Test
+    public void test_capacity() {
+        assertEquals(3, queue.capacity());
+        for (int i = 0; i < 10; i++) {
+            queue.insertIfAbsent(i, i);
+        }
+        assertTrue(queue.capacity() >= 10);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(queue.contains(i));
+        }
+    }
+
+    @Test
+    public void test_toString() {
+        queue.insertIfAbsent(4, 40);
+        assertEquals("[4=40]", queue.toString());
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_emptyQueueErrors() {
+        assertThrows(NoSuchElementException.class, () -> queue.peekId());
+        assertThrows(NoSuchElementException.class, () -> queue.peekPriority());
+        assertThrows(NoSuchElementException.class, () -> queue.pop());
+        assertThrows(NoSuchElementException.class, () -> queue.priorityOf(1));
+    }
+
+    @Test
+    public void test_invalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new DedupIntPriorityQueue(0));
+    }
+}
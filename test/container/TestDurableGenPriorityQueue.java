@@ -0,0 +1,518 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import container.DurableGenPriorityQueue.Codec;
+import container.DurableGenPriorityQueue.Durability;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Tests unitaires pour DurableGenPriorityQueue (journal, compaction et reprise)
+ */
+public class TestDurableGenPriorityQueue {
+
+    @TempDir
+    Path directory;
+
+    private DurableGenPriorityQueue<Integer> open(Durability durability) throws IOException {
+        return new DurableGenPriorityQueue<>(directory, Codec.int32(), durability);
+    }
+
+    private static List<Integer> drain(DurableGenPriorityQueue<Integer> queue) {
+        List<Integer> values = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            values.add(queue.popElement());
+        }
+        return values;
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_insertAndPop() throws IOException {
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            queue.insertElement(5);
+            queue.insertElement(42);
+            queue.insertElement(17);
+            assertEquals(3, queue.size());
+            assertEquals(42, queue.element());
+            assertEquals(List.of(42, 17, 5), drain(queue));
+            assertThrows(NoSuchElementException.class, queue::popElement);
+            assertThrows(IllegalArgumentException.class, () -> queue.insertElement(null));
+        }
+    }
+
+    @Test
+    public void test_stringCodec() throws IOException {
+        try (DurableGenPriorityQueue<String> queue =
+                 new DurableGenPriorityQueue<>(directory, Codec.utf8(), Durability.WRITE)) {
+            queue.insertElement("pomme");
+            queue.insertElement("été");
+        }
+        try (DurableGenPriorityQueue<String> queue =
+                 new DurableGenPriorityQueue<>(directory, Codec.utf8(), Durability.WRITE)) {
+            assertEquals("été", queue.popElement());
+            assertEquals("pomme", queue.popElement());
+        }
+    }
+
+    // === Tests de reprise ===
+
+    @Test
+    public void test_reopenReplaysLog() throws IOException {
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            for (int i = 0; i < 10; i++) {
+                queue.insertElement(i);
+            }
+            queue.popElement();
+            queue.popElement();
+        }
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            assertEquals(8, queue.size());
+            assertEquals(List.of(7, 6, 5, 4, 3, 2, 1, 0), drain(queue));
+        }
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    public void test_tornTailIsDropped() throws IOException {
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.WRITE)) {
+            queue.insertElement(1);
+            queue.insertElement(2);
+        }
+        Path wal = directory.resolve("queue.wal");
+        long validSize = Files.size(wal);
+        // Enregistrement à moitié écrit : longueur annoncée plus grande que les données
+        Files.write(wal, new byte[] {0, 0, 0, 20, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.WRITE)) {
+            assertEquals(2, queue.size());
+            assertEquals(validSize, queue.logSize());
+            queue.insertElement(3); // Le journal repart proprement après le préfixe valide
+        }
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.WRITE)) {
+            assertEquals(List.of(3, 2, 1), drain(queue));
+        }
+    }
+
+    @Test
+    public void test_corruptedRecordEndsLog() throws IOException {
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.WRITE)) {
+            queue.insertElement(1);
+            queue.insertElement(2);
+            queue.insertElement(3);
+        }
+        // Dernier octet du dernier enregistrement modifié : son CRC ne correspond plus
+        Path wal = directory.resolve("queue.wal");
+        try (FileChannel channel = FileChannel.open(wal, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), channel.size() - 1);
+        }
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.WRITE)) {
+            assertEquals(List.of(2, 1), drain(queue));
+        }
+    }
+
+    // === Tests de compaction ===
+
+    @Test
+    public void test_compactTruncatesLog() throws IOException {
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            for (int i = 0; i < 100; i++) {
+                queue.insertElement(i);
+            }
+            for (int i = 0; i < 40; i++) {
+                queue.popElement();
+            }
+            assertTrue(queue.logSize() > 0);
+            queue.compact();
+            assertEquals(0, queue.logSize());
+            queue.insertElement(1000);
+            queue.popElement();
+            queue.popElement(); // Retire 59
+        }
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 58; i >= 0; i--) {
+                expected.add(i);
+            }
+            assertEquals(expected, drain(queue));
+        }
+    }
+
+    @Test
+    public void test_automaticCompaction() throws IOException {
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.WRITE)) {
+            queue.setCompactionThreshold(256);
+            for (int i = 0; i < 1000; i++) {
+                queue.insertElement(i);
+            }
+        } // close attend la compaction en cours
+        assertTrue(Files.exists(directory.resolve("queue.snapshot")));
+        assertFalse(Files.exists(directory.resolve("queue.wal.old")));
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.WRITE)) {
+            assertEquals(1000, queue.size());
+            assertEquals(999, queue.element());
+        }
+    }
+
+    @Test
+    public void test_logAlreadyCoveredBySnapshotIsSkipped() throws IOException {
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            queue.insertElement(1);
+            queue.insertElement(2);
+        }
+        Path wal = directory.resolve("queue.wal");
+        byte[] oldLog = Files.readAllBytes(wal);
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            queue.compact();
+        }
+        // Crash simulé entre le renommage de l'instantané et la suppression de l'ancien journal
+        Files.write(directory.resolve("queue.wal.old"), oldLog);
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            assertEquals(List.of(2, 1), drain(queue));
+        }
+    }
+
+    // === Tests de concurrence ===
+
+    @Test
+    public void test_groupCommitFromManyThreads() throws Exception {
+        int threads = 8;
+        int perThread = 200;
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            Thread[] writers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                int base = t * perThread;
+                writers[t] = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        queue.insertElement(base + i);
+                    }
+                });
+                writers[t].start();
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            assertEquals(threads * perThread, queue.size());
+        }
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < threads * perThread; i++) {
+                expected.add(i);
+            }
+            Collections.reverse(expected);
+            assertEquals(expected, drain(queue));
+        }
+    }
+
+    @Test
+    public void test_closedQueueRejectsWrites() throws IOException {
+        DurableGenPriorityQueue<Integer> queue = open(Durability.WRITE);
+        queue.close();
+        assertThrows(IllegalStateException.class, () -> queue.insertElement(1));
+    }
+
+    // === Tests de pannes ===
+
+    /**
+     * Canal de journal qui peut échouer à la demande : écriture coupée à mi-chemin, fsync
+     */
+    static final class FaultyChannel extends FileChannel {
+        private final FileChannel delegate;
+        volatile boolean failNextWrite;
+        volatile boolean failForce;
+        volatile CountDownLatch forceGate; // Retient chaque fsync jusqu'à son ouverture
+
+        FaultyChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failNextWrite) {
+                failNextWrite = false;
+                ByteBuffer half = src.duplicate();
+                half.limit(src.position() + src.remaining() / 2);
+                delegate.write(half); // Enregistrement à moitié écrit
+                throw new IOException("Disque plein (simulé)");
+            }
+            return delegate.write(src);
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            CountDownLatch gate = forceGate;
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            if (failForce) {
+                throw new IOException("fsync en échec (simulé)");
+            }
+            delegate.force(metaData);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+
+    private FaultyChannel faulty;
+
+    private DurableGenPriorityQueue<Integer> openFaulty(Durability durability) throws IOException {
+        return new DurableGenPriorityQueue<>(directory, Codec.int32(), durability, channel -> {
+            faulty = new FaultyChannel(channel);
+            return faulty;
+        });
+    }
+
+    @Test
+    public void test_failedWriteIsRolledBack() throws IOException {
+        try (DurableGenPriorityQueue<Integer> queue = openFaulty(Durability.FSYNC)) {
+            queue.insertElement(1);
+            long sizeBefore = queue.logSize();
+            faulty.failNextWrite = true;
+            assertThrows(UncheckedIOException.class, () -> queue.insertElement(2));
+            assertEquals(1, queue.size()); // Rien d'appliqué en mémoire
+            assertEquals(sizeBefore, queue.logSize()); // Ni dans le journal
+            queue.insertElement(3); // Les écritures suivantes restent lisibles
+            queue.insertElement(4);
+        }
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            assertEquals(List.of(4, 3, 1), drain(queue));
+        }
+    }
+
+    @Test
+    public void test_fsyncFailureClosesQueue() throws IOException {
+        DurableGenPriorityQueue<Integer> queue = openFaulty(Durability.FSYNC);
+        queue.insertElement(1);
+        faulty.failForce = true;
+        assertThrows(UncheckedIOException.class, queue::popElement);
+        IllegalStateException closed = assertThrows(IllegalStateException.class, () -> queue.insertElement(2));
+        assertNotNull(closed.getCause());
+        queue.close();
+
+        // La réouverture fait foi : le POP a été écrit (sans fsync garanti), il est rejoué
+        try (DurableGenPriorityQueue<Integer> reopened = open(Durability.FSYNC)) {
+            assertTrue(reopened.isEmpty());
+            reopened.insertElement(5);
+        }
+    }
+
+    @Test
+    public void test_closeCompletesPendingFsyncCallers() throws Exception {
+        DurableGenPriorityQueue<Integer> queue = openFaulty(Durability.FSYNC);
+        faulty.forceGate = new CountDownLatch(1);
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        Thread leader = new Thread(() -> queue.insertElement(1)); // Bloqué dans son fsync
+        leader.start();
+        waitUntilWaiting(leader);
+        Thread follower = new Thread(() -> {
+            try {
+                queue.insertElement(2); // Journalisé, attend le fsync du meneur
+            } catch (Throwable e) {
+                errors.add(e);
+            }
+        });
+        follower.start();
+        waitUntilWaiting(follower);
+        Thread closer = new Thread(() -> {
+            try {
+                queue.close(); // Attend la fin du fsync en cours
+            } catch (Throwable e) {
+                errors.add(e);
+            }
+        });
+        closer.start();
+        waitUntilWaiting(closer);
+
+        // Le fsync de close couvre l'insertion du suiveur, qui ne doit pas forcer le
+        // journal fermé si close passe avant lui
+        faulty.forceGate.countDown();
+        leader.join();
+        follower.join();
+        closer.join();
+        assertEquals(List.of(), errors);
+        try (DurableGenPriorityQueue<Integer> reopened = open(Durability.FSYNC)) {
+            assertEquals(List.of(2, 1), drain(reopened));
+        }
+    }
+
+    private static void waitUntilWaiting(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void test_interruptedCallerKeepsResult() throws IOException {
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            queue.insertElement(7);
+            Thread.currentThread().interrupt();
+            assertEquals(7, queue.popElement()); // Ni exception ni journal fermé
+            queue.insertElement(8);
+            assertTrue(Thread.interrupted()); // Drapeau conservé (et effacé ici)
+            queue.insertElement(9);
+        }
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            assertEquals(List.of(9, 8), drain(queue));
+        }
+    }
+
+    @Test
+    public void test_backgroundCompactionDoesNotBlockWriters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Codec<Integer> int32 = Codec.int32();
+        // Encodage bloqué dans le thread de compaction : l'instantané reste en cours
+        Codec<Integer> slowSnapshots = Codec.of(value -> {
+            if (Thread.currentThread().getName().equals("queue-compaction")) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return int32.encode(value);
+        }, int32::decode);
+
+        try (DurableGenPriorityQueue<Integer> queue =
+                 new DurableGenPriorityQueue<>(directory, slowSnapshots, Durability.FSYNC)) {
+            queue.setCompactionThreshold(200);
+            int next = 0;
+            while (!queue.isCompacting()) {
+                queue.insertElement(next++);
+            }
+            int first = next;
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                for (int i = 0; i < 500; i++) {
+                    queue.insertElement(first + i);
+                }
+                queue.popElement();
+            });
+            assertTrue(queue.isCompacting());
+            release.countDown();
+        }
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            List<Integer> values = drain(queue);
+            assertFalse(values.isEmpty());
+            // Le maximum a été retiré, tout le reste est là sans trou
+            for (int i = 0; i < values.size(); i++) {
+                assertEquals(values.size() - 1 - i, values.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void test_interruptedCompactionIsResumedOnReopen() throws IOException {
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            queue.insertElement(1);
+            queue.insertElement(2);
+        }
+        // Crash simulé juste après la mise de côté du journal
+        Files.move(directory.resolve("queue.wal"), directory.resolve("queue.wal.old"));
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            queue.insertElement(3);
+            queue.compact();
+            assertFalse(Files.exists(directory.resolve("queue.wal.old")));
+        }
+        try (DurableGenPriorityQueue<Integer> queue = open(Durability.FSYNC)) {
+            assertEquals(List.of(3, 2, 1), drain(queue));
+        }
+    }
+}
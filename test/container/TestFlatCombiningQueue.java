@@ -0,0 +1,185 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Tests unitaires pour FlatCombiningQueue (décorateur concurrent)
+ */
+public class TestFlatCombiningQueue {
+
+    private static final int THREADS = 4;
+
+    // Lance THREADS threads qui exécutent body(indice du thread) en même temps
+    private static void runConcurrently(IntConsumer body) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int index = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                body.accept(index);
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    // === Tests séquentiels ===
+
+    @Test
+    public void test_behavesLikeDelegate() {
+        FlatCombiningQueue<Integer> queue = new FlatCombiningQueue<>(new IntPriorityQueue(3));
+        assertTrue(queue.isEmpty());
+        queue.insertElement(10);
+        queue.insertElement(30);
+        queue.insertElement(20);
+
+        assertEquals(3, queue.size());
+        assertEquals(30, queue.element());
+        assertEquals(30, queue.popElement());
+        assertEquals(20, queue.popElement());
+    }
+
+    @Test
+    public void test_exceptionsArePropagated() {
+        FlatCombiningQueue<Integer> queue = new FlatCombiningQueue<>(new IntFIFO(3));
+        assertThrows(NoSuchElementException.class, () -> queue.popElement());
+        assertThrows(NoSuchElementException.class, () -> queue.element());
+        assertThrows(IllegalArgumentException.class, () -> queue.insertElement(null));
+        assertTrue(queue.isEmpty()); // Le décorateur reste utilisable
+    }
+
+    @Test
+    public void test_errorsArePropagated() {
+        FlatCombiningQueue<Integer> queue = new FlatCombiningQueue<>(new IntFIFO(3) {
+            @Override
+            public Integer popElement() {
+                throw new StackOverflowError(); // Une Error, pas une RuntimeException
+            }
+        });
+        queue.insertElement(1);
+        assertThrows(StackOverflowError.class, () -> queue.popElement());
+        assertEquals(1, queue.size()); // L'emplacement n'est pas resté en attente
+    }
+
+    @Test
+    public void test_iteratorIsSnapshot() {
+        FlatCombiningQueue<Integer> queue = new FlatCombiningQueue<>(new IntFIFO(3));
+        queue.insertElement(1);
+        queue.insertElement(2);
+
+        Iterator<Integer> it = queue.iterator();
+        queue.popElement(); // N'affecte pas l'instantané
+        assertEquals(1, it.next());
+        assertEquals(2, it.next());
+        assertFalse(it.hasNext());
+        assertTrue(queue.toString().contains("2"));
+    }
+
+    @Test
+    public void test_nullDelegate() {
+        assertThrows(IllegalArgumentException.class, () -> new FlatCombiningQueue<Integer>(null));
+    }
+
+    // === Tests concurrents ===
+
+    @Test
+    @Timeout(30)
+    public void test_concurrentInserts() throws InterruptedException {
+        FlatCombiningQueue<Integer> queue = new FlatCombiningQueue<>(new GenPriorityQueue<Integer>(16));
+        int perThread = 5000;
+        runConcurrently(t -> {
+            for (int i = 0; i < perThread; i++) {
+                queue.insertElement(t * perThread + i);
+            }
+        });
+
+        assertEquals(THREADS * perThread, queue.size());
+        for (int expected = THREADS * perThread - 1; expected >= 0; expected--) {
+            assertEquals(expected, queue.popElement());
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    public void test_idleSlotsAreRemoved() throws InterruptedException {
+        FlatCombiningQueue<Integer> queue = new FlatCombiningQueue<>(new IntFIFO(16));
+        for (int t = 0; t < 50; t++) { // Threads éphémères : une opération chacun
+            int value = t;
+            Thread thread = new Thread(() -> queue.insertElement(value));
+            thread.start();
+            thread.join();
+        }
+        // Un thread qui reste en vie mais inactif entre deux opérations
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        Thread sleeper = new Thread(() -> {
+            queue.insertElement(100);
+            inserted.countDown();
+            try {
+                resume.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.insertElement(101);
+        });
+        sleeper.start();
+        inserted.await();
+        assertEquals(51, queue.slotCount()); // Le thread courant n'a encore rien publié
+
+        // Le thread courant combine seul : les emplacements inutilisés vieillissent
+        for (int i = 0; i < 1000; i++) {
+            queue.insertElement(i);
+            queue.popElement();
+        }
+        assertEquals(1, queue.slotCount());
+        assertEquals(51, queue.size());
+
+        // L'emplacement retiré se réinscrit à l'opération suivante de son thread
+        resume.countDown();
+        sleeper.join();
+        assertEquals(52, queue.size());
+        assertEquals(2, queue.slotCount());
+    }
+
+    @Test
+    @Timeout(30)
+    public void test_concurrentProducersAndConsumers() throws InterruptedException {
+        FlatCombiningQueue<Integer> queue = new FlatCombiningQueue<>(new IntFIFO(16));
+        int perThread = 5000;
+        AtomicInteger popped = new AtomicInteger();
+        ConcurrentHashMap<Integer, Boolean> seen = new ConcurrentHashMap<>();
+        runConcurrently(t -> {
+            for (int i = 0; i < perThread; i++) {
+                queue.insertElement(t * perThread + i);
+                try {
+                    Integer value = queue.popElement();
+                    assertNull(seen.put(value, Boolean.TRUE)); // Jamais deux fois
+                    popped.incrementAndGet();
+                } catch (NoSuchElementException e) {
+                    // Un autre thread a pris l'élément
+                }
+            }
+        });
+
+        assertEquals(THREADS * perThread, popped.get() + queue.size());
+    }
+}
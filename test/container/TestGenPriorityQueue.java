@@ -3,8 +3,15 @@ package container;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
 
 /**
  * Tests unitaires pour GenPriorityQueue (File de priorité générique - Max-Heap)
@@ -106,6 +113,127 @@ public class TestGenPriorityQueue {
         assertTrue(intQueue.capacity() > 3);
     }
     
+    @Test
+    public void test_incrementalResize() {
+        GenPriorityQueue<Integer> reference = new GenPriorityQueue<>(3);
+        intQueue.setIncrementalResize(true);
+        // Remplir jusqu'au doublement 768 -> 1536 (3, 6, 12... : doublement à chaque fois)
+        while (intQueue.capacity() < 1536) {
+            int value = intQueue.size() * 7 % 1000;
+            intQueue.insertElement(value);
+            reference.insertElement(value);
+        }
+        
+        // Une migration est en cours juste après un doublement, et la file reste correcte
+        assertTrue(intQueue.isResizing());
+        assertEquals(reference.element(), intQueue.element());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(reference.popElement(), intQueue.popElement());
+        }
+        assertFalse(intQueue.isResizing());
+        while (!reference.isEmpty()) {
+            assertEquals(reference.popElement(), intQueue.popElement());
+        }
+    }
+    
+    @Test
+    public void test_incrementalResizeWithKeys() {
+        GenPriorityQueue<Integer> keyed = new GenPriorityQueue<>(3, Integer::longValue);
+        keyed.setIncrementalResize(true);
+        Random random = new Random(5);
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(1000);
+            keyed.insertElement(value);
+            intQueue.insertElement(value);
+            if (i == 770) { // Peu après le doublement 768 -> 1536
+                assertTrue(keyed.isResizing());
+                keyed.removeIf(v -> v % 2 == 0); // Termine la migration avant de compacter
+                intQueue.removeIf(v -> v % 2 == 0);
+                assertFalse(keyed.isResizing());
+            }
+        }
+        keyed.setIncrementalResize(false);
+        assertFalse(keyed.isResizing());
+        while (!intQueue.isEmpty()) {
+            assertEquals(intQueue.popElement(), keyed.popElement());
+        }
+    }
+    
+    @Test
+    public void test_keyedSiftsDuringMigration() {
+        GenPriorityQueue<Integer> keyed = new GenPriorityQueue<>(3, Integer::longValue);
+        keyed.setIncrementalResize(true);
+        Random random = new Random(6);
+        while (keyed.capacity() < 1536) {
+            int value = random.nextInt(1000);
+            keyed.insertElement(value);
+            intQueue.insertElement(value);
+        }
+        // Retraits et insertions pendant la migration : tamisages par les accesseurs
+        assertTrue(keyed.isResizing());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(intQueue.popElement(), keyed.popElement());
+            keyed.insertElement(i * 97);
+            intQueue.insertElement(i * 97);
+        }
+        assertTrue(keyed.isResizing());
+        while (!intQueue.isEmpty()) {
+            assertEquals(intQueue.popElement(), keyed.popElement());
+        }
+    }
+    
+    // === Tests de construction parallèle et topK ===
+    
+    @Test
+    public void test_buildParallel() {
+        List<String> words = new ArrayList<>();
+        Random random = new Random(45);
+        for (int i = 0; i < 30_000; i++) {
+            words.add(Integer.toString(random.nextInt(1_000_000), 36));
+        }
+        GenPriorityQueue<String> built = GenPriorityQueue.buildParallel(words);
+        assertEquals(words.size(), built.size());
+        
+        words.sort(Collections.reverseOrder());
+        assertEquals(words.subList(0, 100), built.topK(100));
+        assertEquals(words.subList(0, 2000), built.topK(2000)); // Balayage parallèle
+        for (int i = 0; i < 100; i++) {
+            assertEquals(words.get(i), built.popElement());
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> GenPriorityQueue.buildParallel(Arrays.asList("a", null)));
+    }
+    
+    @Test
+    public void test_topKWithKeyExtractor() {
+        GenPriorityQueue<String> byLength = new GenPriorityQueue<>(2, String::length);
+        for (String s : new String[] {"aaaa", "b", "cc", "zzz"}) {
+            byLength.insertElement(s);
+        }
+        assertEquals(Arrays.asList("aaaa", "zzz"), byLength.topK(2));
+        assertEquals(4, byLength.size());
+    }
+    
+    @Test
+    public void test_topKUsesCachedKeys() {
+        int[] extractions = {0};
+        GenPriorityQueue<Integer> keyed = new GenPriorityQueue<>(16, value -> {
+            extractions[0]++;
+            return value;
+        });
+        for (int i = 0; i < 20_000; i++) {
+            keyed.insertElement(i * 7919 % 20_000);
+        }
+        int before = extractions[0];
+        List<Integer> top = keyed.topK(1000); // Balayage parallèle
+        assertEquals(before, extractions[0]); // Aucune extraction pendant topK
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(19_999 - i, top.get(i));
+        }
+        assertEquals(Arrays.asList(19_999, 19_998), keyed.topK(2)); // Parcours depuis la racine
+        assertEquals(before, extractions[0]);
+    }
+    
     // === Tests avec différents types ===
     
     @Test
@@ -132,6 +260,197 @@ public class TestGenPriorityQueue {
         assertEquals('M', charQueue.popElement());
     }
     
+    // === Tests du mode clés en cache (ToLongFunction) ===
+    
+    @Test
+    public void test_keyExtractorOrdersByKey() {
+        // Ordre par longueur de chaîne, et non par ordre alphabétique
+        GenPriorityQueue<String> byLength = new GenPriorityQueue<>(2, String::length);
+        byLength.insertElement("bb");
+        byLength.insertElement("a");
+        byLength.insertElement("dddd");
+        byLength.insertElement("ccc"); // Déclenche resize
+        
+        assertEquals("dddd", byLength.element());
+        assertEquals("dddd", byLength.popElement());
+        assertEquals("ccc", byLength.popElement());
+        assertEquals("bb", byLength.popElement());
+        assertEquals("a", byLength.popElement());
+        assertTrue(byLength.isEmpty());
+    }
+    
+    @Test
+    public void test_keyExtractorMatchesNaturalOrder() {
+        GenPriorityQueue<Integer> keyed = new GenPriorityQueue<>(3, Integer::longValue);
+        Random random = new Random(3);
+        for (int i = 0; i < 500; i++) {
+            int value = random.nextInt(1000);
+            keyed.insertElement(value);
+            intQueue.insertElement(value);
+        }
+        while (!intQueue.isEmpty()) {
+            assertEquals(intQueue.popElement(), keyed.popElement());
+        }
+        assertTrue(keyed.isEmpty());
+    }
+    
+    @Test
+    public void test_nullKeyExtractor() {
+        assertThrows(IllegalArgumentException.class, () -> new GenPriorityQueue<Integer>(3, null));
+    }
+    
+    // === Tests des retraits en masse ===
+    
+    @Test
+    public void test_removeIf() {
+        for (int i = 1; i <= 20; i++) {
+            intQueue.insertElement(i);
+        }
+        assertTrue(intQueue.removeIf(value -> value % 2 == 0));
+        assertFalse(intQueue.removeIf(value -> value > 100));
+        
+        assertEquals(10, intQueue.size());
+        for (int expected = 19; expected >= 1; expected -= 2) {
+            assertEquals(expected, intQueue.popElement());
+        }
+    }
+    
+    @Test
+    public void test_removeAllAndRetainAll() {
+        for (String s : new String[] {"a", "b", "c", "d", "e"}) {
+            stringQueue.insertElement(s);
+        }
+        assertTrue(stringQueue.removeAll(Set.of("e", "b", "z")));
+        assertEquals("d", stringQueue.element());
+        assertTrue(stringQueue.retainAll(Set.of("a", "c")));
+        assertEquals(2, stringQueue.size());
+        assertEquals("c", stringQueue.popElement());
+        assertEquals("a", stringQueue.popElement());
+    }
+    
+    @Test
+    public void test_removeIfKeepsHeapPropertyInKeyedMode() {
+        GenPriorityQueue<Integer> keyed = new GenPriorityQueue<>(3, value -> -value); // Plus petit d'abord
+        Random random = new Random(8);
+        for (int i = 0; i < 1000; i++) {
+            keyed.insertElement(random.nextInt(10_000));
+            intQueue.insertElement(random.nextInt(10_000));
+        }
+        keyed.removeIf(value -> value % 3 == 0);
+        intQueue.removeIf(value -> value % 3 != 0);
+        
+        int previous = Integer.MIN_VALUE;
+        while (!keyed.isEmpty()) {
+            int value = keyed.popElement();
+            assertNotEquals(0, value % 3);
+            assertTrue(value >= previous);
+            previous = value;
+        }
+        previous = Integer.MAX_VALUE;
+        while (!intQueue.isEmpty()) {
+            int value = intQueue.popElement();
+            assertEquals(0, value % 3);
+            assertTrue(value <= previous);
+            previous = value;
+        }
+    }
+    
+    @Test
+    public void test_removeIfWithThrowingFilterLeavesQueueIntact() {
+        for (int i = 1; i <= 200; i++) {
+            intQueue.insertElement(i);
+        }
+        int[] calls = {0};
+        assertThrows(IllegalStateException.class, () -> intQueue.removeIf(value -> {
+            if (++calls[0] == 150) {
+                throw new IllegalStateException("filtre en échec");
+            }
+            return value % 2 == 0;
+        }));
+        
+        // Aucun élément retiré, propriété de tas intacte
+        assertEquals(200, intQueue.size());
+        for (int expected = 200; expected >= 1; expected--) {
+            assertEquals(expected, intQueue.popElement());
+        }
+    }
+    
+    @Test
+    public void test_bulkRemovalNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> intQueue.removeIf(null));
+        assertThrows(IllegalArgumentException.class, () -> intQueue.removeAll(null));
+        assertThrows(IllegalArgumentException.class, () -> intQueue.retainAll(null));
+    }
+
+    // === Tests de l'insertion paresseuse ===
+
+    @Test
+    public void test_lazyInsertionBulkLoadThenDrain() {
+        intQueue.setLazyInsertion(true);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            values.add(i);
+        }
+        Collections.shuffle(values, new Random(49));
+        for (int value : values) {
+            intQueue.insertElement(value);
+        }
+        assertEquals(2000, intQueue.size());
+        assertEquals(Arrays.asList(1999, 1998, 1997), intQueue.topK(3));
+        for (int expected = 1999; expected >= 0; expected--) {
+            assertEquals(expected, intQueue.popElement());
+        }
+    }
+
+    @Test
+    public void test_lazyInsertionAlternatingWorkload() {
+        GenPriorityQueue<Integer> keyed = new GenPriorityQueue<>(3, value -> -value); // Plus petit d'abord
+        intQueue.setLazyInsertion(true);
+        intQueue.setIncrementalResize(true);
+        keyed.setLazyInsertion(true);
+        PriorityQueue<Integer> maxReference = new PriorityQueue<>(Collections.reverseOrder());
+        PriorityQueue<Integer> minReference = new PriorityQueue<>();
+        Random random = new Random(490);
+        for (int i = 0; i < 20_000; i++) {
+            int burst = random.nextInt(8);
+            for (int j = 0; j < burst; j++) {
+                int value = random.nextInt(1000);
+                intQueue.insertElement(value);
+                maxReference.add(value);
+                keyed.insertElement(value);
+                minReference.add(value);
+            }
+            if (!maxReference.isEmpty() && random.nextBoolean()) {
+                assertEquals(maxReference.peek(), intQueue.element());
+                assertEquals(maxReference.poll(), intQueue.popElement());
+                assertEquals(minReference.poll(), keyed.popElement());
+            }
+            assertEquals(maxReference.size(), intQueue.size());
+        }
+    }
+
+    @Test
+    public void test_lazyInsertionWithRemoveIfAndIterator() {
+        intQueue.setLazyInsertion(true);
+        for (int i = 1; i <= 50; i++) {
+            intQueue.insertElement(i);
+        }
+        int sum = 0;
+        for (int value : intQueue) {
+            sum += value; // Les insertions en attente sont parcourues aussi
+        }
+        assertEquals(50 * 51 / 2, sum);
+
+        intQueue.removeIf(value -> value > 40);
+        intQueue.insertElement(100);
+        intQueue.setLazyInsertion(false); // Rétablit le tas immédiatement
+        intQueue.insertElement(45);
+        assertEquals(100, intQueue.popElement());
+        assertEquals(45, intQueue.popElement());
+        assertEquals(40, intQueue.popElement());
+        assertEquals(39, intQueue.size());
+    }
+    
     // === Tests de l'itérateur ===
     
     @Test
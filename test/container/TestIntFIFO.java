@@ -81,6 +81,35 @@ public class TestIntFIFO {
         assertEquals(2, queue.element());
     }
     
+    @Test
+    public void test_incrementalResize() {
+        queue.setIncrementalResize(true);
+        queue.insertElement(0);
+        queue.popElement(); // Décale front : la migration doit suivre l'ordre circulaire
+        for (int i = 1; i <= 768; i++) {
+            queue.insertElement(i);
+        }
+        assertEquals(768, queue.capacity()); // 3, 6, 12... doublée à chaque fois
+        
+        // Juste après un doublement : retraits et insertions pendant la migration
+        queue.insertElement(769);
+        assertEquals(1536, queue.capacity());
+        assertTrue(queue.isResizing());
+        int expected = 1;
+        for (int value : queue) {
+            assertEquals(expected++, value);
+        }
+        for (int i = 1; i <= 100; i++) {
+            assertEquals(i, queue.popElement());
+            queue.insertElement(769 + i);
+        }
+        assertFalse(queue.isResizing());
+        for (int i = 101; i <= 869; i++) {
+            assertEquals(i, queue.popElement());
+        }
+        assertTrue(queue.isEmpty());
+    }
+    
     // === Tests de l'itérateur ===
     
     @Test
@@ -0,0 +1,103 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Tests unitaires pour IntLoserTree (fusion k-voies décroissante)
+ */
+public class TestIntLoserTree {
+
+    private static PrimitiveIterator.OfInt source(int... values) {
+        return IntStream.of(values).iterator();
+    }
+
+    private static int[] drain(IntLoserTree tree) {
+        List<Integer> out = new ArrayList<>();
+        while (tree.hasNext()) {
+            out.add(tree.nextInt());
+        }
+        return out.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_noSources() {
+        IntLoserTree tree = new IntLoserTree();
+        assertFalse(tree.hasNext());
+        assertEquals(0, tree.sourceCount());
+    }
+
+    @Test
+    public void test_mergeThreeSources() {
+        IntLoserTree tree = new IntLoserTree(
+            source(9, 5, 1), source(8, 7, 2, 0), source(6));
+        assertArrayEquals(new int[] {9, 8, 7, 6, 5, 2, 1, 0}, drain(tree));
+    }
+
+    @Test
+    public void test_emptyAndExtremeSources() {
+        IntLoserTree tree = new IntLoserTree(
+            source(), source(Integer.MAX_VALUE, Integer.MIN_VALUE), source(), source(0));
+        assertArrayEquals(new int[] {Integer.MAX_VALUE, 0, Integer.MIN_VALUE}, drain(tree));
+    }
+
+    // === Tests de fusion ===
+
+    @Test
+    public void test_randomRunsAgainstSort() {
+        Random random = new Random(21);
+        for (int k : new int[] {1, 2, 3, 7, 64, 100}) {
+            List<PrimitiveIterator.OfInt> runs = new ArrayList<>();
+            List<Integer> all = new ArrayList<>();
+            for (int r = 0; r < k; r++) {
+                int[] run = random.ints(random.nextInt(50), -100, 100).toArray();
+                Arrays.sort(run);
+                int[] descending = new int[run.length];
+                for (int i = 0; i < run.length; i++) {
+                    descending[i] = run[run.length - 1 - i];
+                    all.add(run[i]);
+                }
+                runs.add(source(descending));
+            }
+            all.sort(Collections.reverseOrder());
+            int[] expected = all.stream().mapToInt(Integer::intValue).toArray();
+            assertArrayEquals(expected, drain(new IntLoserTree(runs)), "k = " + k);
+        }
+    }
+
+    @Test
+    public void test_nextBatch() {
+        IntLoserTree tree = new IntLoserTree(source(10, 4), source(7, 3, 1), source(9));
+        int[] buffer = new int[8];
+        assertEquals(4, tree.nextBatch(buffer, 1, 4));
+        assertArrayEquals(new int[] {0, 10, 9, 7, 4, 0, 0, 0}, buffer);
+        assertEquals(2, tree.nextBatch(buffer, 0, 8));
+        assertEquals(3, buffer[0]);
+        assertEquals(1, buffer[1]);
+        assertEquals(0, tree.nextBatch(buffer, 0, 8));
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_errors() {
+        IntLoserTree empty = new IntLoserTree(source());
+        assertThrows(NoSuchElementException.class, () -> empty.nextInt());
+        assertThrows(IllegalArgumentException.class, () -> empty.nextBatch(new int[2], 1, 2));
+        assertThrows(IllegalArgumentException.class,
+            () -> new IntLoserTree((PrimitiveIterator.OfInt) null));
+
+        IntLoserTree unsorted = new IntLoserTree(source(1, 5));
+        assertThrows(IllegalStateException.class, () -> unsorted.nextInt());
+    }
+}
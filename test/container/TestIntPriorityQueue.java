@@ -3,8 +3,10 @@ package container;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
 /**
  * Tests unitaires pour IntPriorityQueue (File de priorité - Max-Heap)
@@ -131,6 +133,198 @@ public class TestIntPriorityQueue {
         assertTrue(queue.capacity() > 3);
     }
     
+    @Test
+    public void test_incrementalResize() {
+        IntPriorityQueue reference = new IntPriorityQueue(3);
+        queue.setIncrementalResize(true);
+        // Capacité doublée (3, 6, ..., 768, 1536) : la dernière migration vient de commencer
+        while (queue.capacity() < 1536) {
+            int value = queue.size() * 37 % 1000;
+            queue.insertElement(value);
+            reference.insertElement(value);
+        }
+        assertEquals(769, queue.size());
+        assertTrue(queue.isResizing());
+        assertEquals(reference.element(), queue.element());
+        
+        // Les lectures pendant la migration voient les deux tableaux
+        long sum = 0;
+        for (int value : queue) {
+            sum += value;
+        }
+        long expected = 0;
+        for (int value : reference) {
+            expected += value;
+        }
+        assertEquals(expected, sum);
+        
+        while (!reference.isEmpty()) {
+            assertEquals(reference.popElement(), queue.popElement());
+        }
+        assertFalse(queue.isResizing());
+    }
+    
+    @Test
+    public void test_disableIncrementalResizeFinishesMigration() {
+        queue.setIncrementalResize(true);
+        for (int i = 0; i < 385; i++) { // Doublement 384 -> 768 au dernier ajout
+            queue.insertElement(i);
+        }
+        assertTrue(queue.isResizing());
+        queue.setIncrementalResize(false);
+        assertFalse(queue.isResizing());
+        assertEquals(384, queue.popElement());
+    }
+    
+    // === Tests de construction parallèle et topK ===
+    
+    @Test
+    public void test_buildParallel() {
+        int[] values = new Random(43).ints(100_000, -1_000_000, 1_000_000).toArray();
+        IntPriorityQueue built = IntPriorityQueue.buildParallel(values);
+        assertEquals(values.length, built.size());
+        
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int i = sorted.length - 1; i >= sorted.length - 1000; i--) {
+            assertEquals(sorted[i], built.popElement());
+        }
+        built.insertElement(Integer.MAX_VALUE); // La file reste utilisable normalement
+        assertEquals(Integer.MAX_VALUE, built.element());
+    }
+    
+    @Test
+    public void test_buildParallelSmallInputs() {
+        assertTrue(IntPriorityQueue.buildParallel(new int[0]).isEmpty());
+        IntPriorityQueue built = IntPriorityQueue.buildParallel(new int[] {2, 9, 4});
+        assertEquals(9, built.popElement());
+        assertEquals(4, built.popElement());
+        assertEquals(2, built.popElement());
+    }
+    
+    @Test
+    public void test_topK() {
+        int[] values = new Random(44).ints(50_000, 0, 1000).toArray();
+        IntPriorityQueue built = IntPriorityQueue.buildParallel(values);
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        
+        // Petit k : parcours depuis la racine ; grand k : balayage parallèle
+        for (int k : new int[] {0, 1, 10, 500, 5000}) {
+            int[] expected = new int[k];
+            for (int i = 0; i < k; i++) {
+                expected[i] = sorted[sorted.length - 1 - i];
+            }
+            assertArrayEquals(expected, built.topK(k), "k = " + k);
+        }
+        assertEquals(50_000, built.size()); // topK ne retire rien
+        
+        queue.insertElement(3);
+        queue.insertElement(8);
+        assertArrayEquals(new int[] {8, 3}, queue.topK(5));
+        assertThrows(IllegalArgumentException.class, () -> queue.topK(-1));
+    }
+
+    // === Tests du cache de tête ===
+
+    @Test
+    public void test_headCacheMatchesPlainQueue() {
+        IntPriorityQueue reference = new IntPriorityQueue(3);
+        queue.setHeadCache(true);
+        queue.setIncrementalResize(true);
+        Random random = new Random(50);
+        for (int i = 0; i < 50_000; i++) {
+            if (random.nextInt(5) < 3 || reference.isEmpty()) {
+                // Valeurs croissantes en moyenne : beaucoup battent le cache
+                int value = i / 4 + random.nextInt(200);
+                queue.insertElement(value);
+                reference.insertElement(value);
+            } else {
+                assertEquals(reference.element(), queue.element());
+                assertEquals(reference.popElement(), queue.popElement());
+            }
+            assertEquals(reference.size(), queue.size());
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.popElement(), queue.popElement());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void test_headCacheOverflowEvictsToHeap() {
+        queue.setHeadCache(true);
+        for (int i = 0; i < 100; i++) {
+            queue.insertElement(i);
+        }
+        assertEquals(99, queue.popElement()); // Recharge : 32 éléments passent dans le cache
+        for (int i = 100; i < 200; i++) {
+            queue.insertElement(i); // Toutes battent le cache, qui déborde dans le tas
+        }
+        assertEquals(199, queue.size());
+        assertArrayEquals(new int[] {199, 198, 197}, queue.topK(3));
+        for (int expected = 199; expected >= 100; expected--) {
+            assertEquals(expected, queue.popElement());
+        }
+        for (int expected = 98; expected >= 0; expected--) {
+            assertEquals(expected, queue.popElement());
+        }
+    }
+
+    @Test
+    public void test_headCacheIteratorAndDisable() {
+        queue.setHeadCache(true);
+        for (int i = 1; i <= 10; i++) {
+            queue.insertElement(i);
+        }
+        assertEquals(10, queue.element()); // Tous les éléments passent dans le cache
+        queue.insertElement(20);
+        int sum = 0;
+        int count = 0;
+        for (int value : queue) {
+            sum += value;
+            count++;
+        }
+        assertEquals(11, count);
+        assertEquals(55 + 20, sum);
+        assertTrue(queue.toString().contains("20"));
+
+        queue.setHeadCache(false); // Le cache est rendu au tas
+        assertEquals(11, queue.size());
+        assertEquals(20, queue.popElement());
+        assertEquals(10, queue.popElement());
+    }
+
+    @Test
+    public void test_headCacheRefillKeepsHeapValid() {
+        queue.setHeadCache(true);
+        Random random = new Random(51);
+        int[] values = random.ints(5000, 0, 100_000).toArray();
+        for (int value : values) {
+            queue.insertElement(value);
+        }
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        // Chaque recharge retire 32 positions d'un coup puis répare le tas
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            assertEquals(sorted[i], queue.popElement());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void test_headCacheToStringShowsCapacitySlots() {
+        IntPriorityQueue cached = new IntPriorityQueue(8);
+        cached.setHeadCache(true);
+        for (int i = 1; i <= 5; i++) {
+            cached.insertElement(i);
+        }
+        cached.element(); // Les 5 éléments passent dans le cache
+        String str = cached.toString();
+        assertEquals(8, str.split(", ").length, str);
+        assertEquals(3, str.split("None", -1).length - 1, str);
+    }
+
     // === Tests avec éléments égaux ===
     
     @Test
@@ -0,0 +1,136 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Tests unitaires pour IntWorkStealingDeque (deque de vol de travail Chase–Lev)
+ */
+public class TestIntWorkStealingDeque {
+
+    private IntWorkStealingDeque deque;
+
+    @BeforeEach
+    public void setUp() {
+        deque = new IntWorkStealingDeque(3);
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_newDequeIsEmpty() {
+        assertTrue(deque.isEmpty());
+        assertEquals(IntWorkStealingDeque.EMPTY, deque.pop());
+        assertEquals(IntWorkStealingDeque.EMPTY, deque.steal());
+        assertEquals(4, deque.capacity()); // Arrondie à une puissance de deux
+    }
+
+    @Test
+    public void test_ownerIsLifo() {
+        deque.push(1);
+        deque.push(2);
+        deque.push(3);
+
+        assertEquals(3, deque.size());
+        assertEquals(3, deque.pop());
+        assertEquals(2, deque.pop());
+        assertEquals(1, deque.pop());
+        assertEquals(IntWorkStealingDeque.EMPTY, deque.pop());
+    }
+
+    @Test
+    public void test_thiefIsFifo() {
+        deque.push(1);
+        deque.push(2);
+        deque.push(3);
+
+        assertEquals(1, deque.steal());
+        assertEquals(3, deque.pop());
+        assertEquals(2, deque.steal());
+        assertTrue(deque.isEmpty());
+    }
+
+    // === Tests de redimensionnement ===
+
+    @Test
+    public void test_growAfterWrapAround() {
+        for (int i = 0; i < 3; i++) {
+            deque.push(i);
+        }
+        deque.steal();
+        deque.steal(); // top avance : le tableau circulaire va boucler
+        for (int i = 3; i < 100; i++) {
+            deque.push(i);
+        }
+        assertTrue(deque.capacity() >= 98);
+        for (int i = 2; i < 100; i++) {
+            assertEquals(i, deque.steal());
+        }
+        assertTrue(deque.isEmpty());
+    }
+
+    // === Tests concurrents ===
+
+    @Test
+    @Timeout(30)
+    public void test_everyTaskTakenExactlyOnce() throws InterruptedException {
+        int tasks = 200_000;
+        AtomicIntegerArray taken = new AtomicIntegerArray(tasks);
+        AtomicBoolean done = new AtomicBoolean();
+
+        List<Thread> thieves = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            Thread thief = new Thread(() -> {
+                while (!done.get() || !deque.isEmpty()) {
+                    int task = deque.steal();
+                    if (task >= 0) {
+                        taken.incrementAndGet(task);
+                    }
+                }
+            });
+            thief.start();
+            thieves.add(thief);
+        }
+
+        // Le propriétaire alterne empilements et dépilements
+        for (int i = 0; i < tasks; i++) {
+            deque.push(i);
+            if (i % 3 == 0) {
+                int task = deque.pop();
+                if (task >= 0) {
+                    taken.incrementAndGet(task);
+                }
+            }
+        }
+        int task;
+        while ((task = deque.pop()) != IntWorkStealingDeque.EMPTY) {
+            taken.incrementAndGet(task);
+        }
+        done.set(true);
+        for (Thread thief : thieves) {
+            thief.join();
+        }
+
+        for (int i = 0; i < tasks; i++) {
+            assertEquals(1, taken.get(i), "tâche " + i);
+        }
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_negativeTaskRejected() {
+        assertThrows(IllegalArgumentException.class, () -> deque.push(-1));
+    }
+
+    @Test
+    public void test_invalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new IntWorkStealingDeque(0));
+    }
+}
@@ -0,0 +1,93 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour LatencyHistogram (seaux log-linéaires)
+ */
+public class TestLatencyHistogram {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    public void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_emptyHistogram() {
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentile(99));
+        assertEquals(0, histogram.min());
+        assertEquals(0.0, histogram.mean());
+    }
+
+    @Test
+    public void test_smallValuesAreExact() {
+        for (int v = 1; v <= 100; v++) {
+            histogram.record(v);
+        }
+        assertEquals(100, histogram.count());
+        assertEquals(50, histogram.percentile(50));
+        assertEquals(99, histogram.percentile(99));
+        assertEquals(100, histogram.percentile(100));
+        assertEquals(1, histogram.min());
+        assertEquals(50.5, histogram.mean(), 1e-9);
+    }
+
+    // === Tests de précision ===
+
+    @Test
+    public void test_relativeErrorIsBounded() {
+        for (long v = 1000; v <= 1_000_000; v += 1000) {
+            histogram.record(v);
+        }
+        long p50 = histogram.percentile(50);
+        long p999 = histogram.percentile(99.9);
+        assertEquals(500_000, p50, 500_000 / 64.0);
+        assertEquals(999_000, p999, 999_000 / 64.0);
+        assertEquals(1_000_000, histogram.max());
+    }
+
+    @Test
+    public void test_tailIsVisible() {
+        for (int i = 0; i < 999; i++) {
+            histogram.record(200);
+        }
+        histogram.record(5_000_000); // Une pause isolée
+        assertTrue(histogram.percentile(99) < 300);
+        assertEquals(5_000_000, histogram.percentile(100));
+        assertTrue(histogram.toString().contains("max=5000.0us"));
+    }
+
+    @Test
+    public void test_hugeValues() {
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.percentile(50));
+    }
+
+    @Test
+    public void test_add() {
+        LatencyHistogram other = new LatencyHistogram();
+        histogram.record(10);
+        other.record(20);
+        other.record(30);
+        histogram.add(other);
+        assertEquals(3, histogram.count());
+        assertEquals(20, histogram.percentile(50));
+        assertEquals(30, histogram.max());
+        assertEquals(10, histogram.min());
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_errors() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101));
+    }
+}
@@ -0,0 +1,131 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour LongIntPriorityQueue (clé long, valeur int - Max-Heap)
+ * L'entrée de plus GRANDE clé est toujours en premier
+ */
+public class TestLongIntPriorityQueue {
+
+    private LongIntPriorityQueue queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new LongIntPriorityQueue(3);
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_newQueueIsEmpty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void test_insertOneEntry() {
+        queue.insert(100L, 7);
+        assertFalse(queue.isEmpty());
+        assertEquals(1, queue.size());
+        assertEquals(100L, queue.peekKey());
+        assertEquals(7, queue.peekValue());
+    }
+
+    // === Tests de priorité ===
+
+    @Test
+    public void test_valuesFollowTheirKeys() {
+        queue.insert(10L, 1);
+        queue.insert(30L, 3);
+        queue.insert(20L, 2);
+
+        assertEquals(30L, queue.peekKey());
+        assertEquals(3, queue.pop());
+        assertEquals(20L, queue.peekKey());
+        assertEquals(2, queue.pop());
+        assertEquals(1, queue.pop());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void test_largeKeys() {
+        queue.insert(Long.MAX_VALUE, 1);
+        queue.insert(Long.MIN_VALUE, 2);
+        queue.insert(1L << 40, 3);
+
+        assertEquals(1, queue.pop());
+        assertEquals(3, queue.pop());
+        assertEquals(2, queue.pop());
+    }
+
+    @Test
+    public void test_randomOrder() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            long key = random.nextInt(500);
+            queue.insert(key, (int) key * 2);
+        }
+
+        long previous = Long.MAX_VALUE;
+        while (!queue.isEmpty()) {
+            long key = queue.peekKey();
+            assertTrue(key <= previous);
+            assertEquals((int) key * 2, queue.pop());
+            previous = key;
+        }
+    }
+
+    // === Tests de redimensionnement ===
+
+    @Test
+    public void test_capacity() {
+        assertEquals(3, queue.capacity());
+        for (int i = 0; i < 4; i++) {
+            queue.insert(i, i); // Le 4e déclenche resize
+        }
+        assertTrue(queue.capacity() > 3);
+        assertEquals(4, queue.size());
+        assertEquals(3, queue.peekValue());
+    }
+
+    @Test
+    public void test_capacityGrowthIsBounded() {
+        int max = LongIntPriorityQueue.MAX_CAPACITY;
+        assertEquals(2048, LongIntPriorityQueue.nextCapacity(1024));
+        assertEquals(max, LongIntPriorityQueue.nextCapacity(max / 2 + 1)); // Plafonné plutôt que débordé
+        assertThrows(IllegalStateException.class, () -> LongIntPriorityQueue.nextCapacity(max));
+        assertThrows(IllegalArgumentException.class, () -> new LongIntPriorityQueue(max + 1));
+    }
+
+    // === Test toString ===
+
+    @Test
+    public void test_toString() {
+        queue.insert(5L, 50);
+        assertEquals("[5=50]", queue.toString());
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_peekOnEmptyQueue() {
+        assertThrows(NoSuchElementException.class, () -> queue.peekKey());
+        assertThrows(NoSuchElementException.class, () -> queue.peekValue());
+    }
+
+    @Test
+    public void test_popOnEmptyQueue() {
+        assertThrows(NoSuchElementException.class, () -> queue.pop());
+    }
+
+    @Test
+    public void test_invalidCapacity() {
+        assertThrows(Exception.class, () -> new LongIntPriorityQueue(0));
+        assertThrows(Exception.class, () -> new LongIntPriorityQueue(-1));
+    }
+}
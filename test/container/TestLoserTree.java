@@ -0,0 +1,100 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour LoserTree (fusion k-voies générique décroissante)
+ */
+public class TestLoserTree {
+
+    private static <E extends Comparable<E>> List<E> drain(LoserTree<E> tree) {
+        List<E> out = new ArrayList<>();
+        while (tree.hasNext()) {
+            out.add(tree.next());
+        }
+        return out;
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_mergeStrings() {
+        LoserTree<String> tree = new LoserTree<>(
+            Arrays.asList("pear", "kiwi", "apple").iterator(),
+            Arrays.asList("plum", "fig").iterator(),
+            Collections.<String>emptyIterator());
+        assertEquals(Arrays.asList("plum", "pear", "kiwi", "fig", "apple"), drain(tree));
+        assertEquals(3, tree.sourceCount());
+    }
+
+    @Test
+    public void test_stableOnTies() {
+        // Éléments égaux pour compareTo mais distincts : la source 0 passe d'abord
+        LoserTree<Task> tree = new LoserTree<>(
+            Arrays.asList(new Task(5, "a"), new Task(1, "b")).iterator(),
+            Arrays.asList(new Task(5, "c"), new Task(5, "d")).iterator());
+        StringBuilder order = new StringBuilder();
+        while (tree.hasNext()) {
+            order.append(tree.next().name);
+        }
+        assertEquals("acdb", order.toString());
+    }
+
+    private static final class Task implements Comparable<Task> {
+        final int priority;
+        final String name;
+
+        Task(int priority, String name) {
+            this.priority = priority;
+            this.name = name;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            return Integer.compare(priority, other.priority);
+        }
+    }
+
+    // === Tests de fusion ===
+
+    @Test
+    public void test_randomRunsAgainstSort() {
+        Random random = new Random(22);
+        List<Iterator<Integer>> runs = new ArrayList<>();
+        List<Integer> all = new ArrayList<>();
+        for (int r = 0; r < 37; r++) {
+            List<Integer> run = new ArrayList<>();
+            for (int i = random.nextInt(30); i > 0; i--) {
+                run.add(random.nextInt(1000));
+            }
+            run.sort(Collections.reverseOrder());
+            all.addAll(run);
+            runs.add(run.iterator());
+        }
+        all.sort(Collections.reverseOrder());
+        assertEquals(all, drain(new LoserTree<>(runs)));
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_errors() {
+        LoserTree<Integer> empty = new LoserTree<>(new ArrayList<Iterator<Integer>>());
+        assertFalse(empty.hasNext());
+        assertThrows(NoSuchElementException.class, () -> empty.next());
+
+        LoserTree<Integer> unsorted = new LoserTree<>(Arrays.asList(1, 5).iterator());
+        assertThrows(IllegalStateException.class, () -> unsorted.next());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new LoserTree<>(Arrays.asList((Integer) null).iterator()));
+    }
+}
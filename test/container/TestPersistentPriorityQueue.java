@@ -0,0 +1,130 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour PersistentPriorityQueue (tas gauche immuable - Max-Heap)
+ */
+public class TestPersistentPriorityQueue {
+
+    private final PersistentPriorityQueue<Integer> empty = PersistentPriorityQueue.empty();
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_emptyQueue() {
+        assertTrue(empty.isEmpty());
+        assertEquals(0, empty.size());
+        assertSame(empty, PersistentPriorityQueue.<String>empty());
+    }
+
+    @Test
+    public void test_insertReturnsNewVersion() {
+        PersistentPriorityQueue<Integer> one = empty.insert(10);
+
+        assertTrue(empty.isEmpty()); // L'ancienne version est inchangée
+        assertEquals(1, one.size());
+        assertEquals(10, one.element());
+    }
+
+    // === Tests de priorité ===
+
+    @Test
+    public void test_maxHeapProperty() {
+        PersistentPriorityQueue<Integer> queue = empty.insert(10).insert(30).insert(20);
+
+        assertEquals(30, queue.element());
+        queue = queue.pop();
+        assertEquals(20, queue.element());
+        queue = queue.pop();
+        assertEquals(10, queue.element());
+        assertTrue(queue.pop().isEmpty());
+    }
+
+    @Test
+    public void test_randomOrder() {
+        Random random = new Random(11);
+        PersistentPriorityQueue<Integer> queue = empty;
+        IntPriorityQueue reference = new IntPriorityQueue(1);
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(300);
+            queue = queue.insert(value);
+            reference.insertElement(value);
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.popElement(), queue.element());
+            queue = queue.pop();
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    // === Tests des instantanés ===
+
+    @Test
+    public void test_snapshotsAreIndependent() {
+        PersistentPriorityQueue<String> base = PersistentPriorityQueue.<String>empty()
+            .insert("b").insert("d").insert("a");
+        PersistentPriorityQueue<String> snapshot = base;
+
+        PersistentPriorityQueue<String> popped = base.pop();
+        PersistentPriorityQueue<String> extended = base.insert("z");
+
+        assertEquals("d", snapshot.element());
+        assertEquals(3, snapshot.size());
+        assertEquals("b", popped.element());
+        assertEquals("z", extended.element());
+        assertEquals(4, extended.size());
+    }
+
+    @Test
+    public void test_merge() {
+        PersistentPriorityQueue<Integer> left = empty.insert(1).insert(5);
+        PersistentPriorityQueue<Integer> right = empty.insert(3).insert(7);
+        PersistentPriorityQueue<Integer> merged = left.merge(right);
+
+        assertEquals(4, merged.size());
+        assertEquals(7, merged.element());
+        assertEquals(5, left.element());
+        assertEquals(5, merged.pop().element());
+        assertThrows(IllegalArgumentException.class, () -> left.merge(null));
+    }
+
+    // === Tests de l'itérateur et toString ===
+
+    @Test
+    public void test_iteratorVisitsEveryElement() {
+        PersistentPriorityQueue<Integer> queue = empty.insert(3).insert(1).insert(2).insert(5);
+
+        int sum = 0;
+        Iterator<Integer> it = queue.iterator();
+        assertEquals(5, it.next()); // La racine d'abord
+        while (it.hasNext()) {
+            sum += it.next();
+        }
+        assertEquals(6, sum);
+        assertThrows(NoSuchElementException.class, () -> it.next());
+    }
+
+    @Test
+    public void test_toString() {
+        assertEquals("[]", empty.toString());
+        assertEquals("[4]", empty.insert(4).toString());
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_emptyQueueErrors() {
+        assertThrows(NoSuchElementException.class, () -> empty.element());
+        assertThrows(NoSuchElementException.class, () -> empty.pop());
+    }
+
+    @Test
+    public void test_insertNull() {
+        assertThrows(IllegalArgumentException.class, () -> empty.insert(null));
+    }
+}
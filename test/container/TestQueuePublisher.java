@@ -0,0 +1,201 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * Tests unitaires pour QueuePublisher (émission selon la demande de l'abonné)
+ */
+public class TestQueuePublisher {
+
+    /** Abonné qui enregistre les signaux reçus et ne demande rien de lui-même */
+    private static class RecordingSubscriber implements Flow.Subscriber<Integer> {
+        final List<Integer> received = new ArrayList<>();
+        Flow.Subscription subscription;
+        boolean completed;
+        Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private QueuePublisher<Integer> publisher;
+    private RecordingSubscriber subscriber;
+
+    @BeforeEach
+    public void setUp() {
+        publisher = new QueuePublisher<>(new GenPriorityQueue<Integer>(8));
+        subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+    }
+
+    // === Tests de la demande ===
+
+    @Test
+    public void test_emitsOnlyWhatIsRequested() {
+        for (int i = 0; i < 10; i++) {
+            publisher.offer(i);
+        }
+        assertTrue(subscriber.received.isEmpty());
+
+        subscriber.subscription.request(3);
+        assertEquals(List.of(9, 8, 7), subscriber.received); // Ordre de priorité
+        assertEquals(7, publisher.pending());
+    }
+
+    @Test
+    public void test_demandCarriesOverToLaterOffers() {
+        subscriber.subscription.request(2);
+        publisher.offer(5);
+        publisher.offer(6);
+        publisher.offer(7);
+        assertEquals(List.of(5, 6), subscriber.received);
+        assertEquals(1, publisher.pending());
+    }
+
+    @Test
+    public void test_largeDemandIsBatched() {
+        for (int i = 0; i < 1000; i++) {
+            publisher.offer(i);
+        }
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.request(Long.MAX_VALUE); // Plafonnée, pas de débordement
+        assertEquals(1000, subscriber.received.size());
+        assertEquals(999, subscriber.received.get(0));
+        publisher.offer(-1);
+        assertEquals(-1, subscriber.received.get(1000));
+    }
+
+    // === Tests de terminaison ===
+
+    @Test
+    public void test_completeAfterDrain() {
+        publisher.offer(1);
+        publisher.complete();
+        assertFalse(subscriber.completed); // Un élément reste à émettre
+        subscriber.subscription.request(5);
+        assertEquals(List.of(1), subscriber.received);
+        assertTrue(subscriber.completed);
+        assertThrows(IllegalStateException.class, () -> publisher.offer(2));
+    }
+
+    @Test
+    public void test_cancelStopsEmission() {
+        publisher.offer(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(5);
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+    @Test
+    public void test_invalidRequestSignalsError() {
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void test_secondSubscriberIsRejected() {
+        RecordingSubscriber second = new RecordingSubscriber();
+        publisher.subscribe(second);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void test_rejectionIsSignalledOutsideTheLock() {
+        List<Boolean> locked = new ArrayList<>();
+        publisher.subscribe(new RecordingSubscriber() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                locked.add(Thread.holdsLock(publisher));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                locked.add(Thread.holdsLock(publisher));
+            }
+        });
+        assertEquals(List.of(false, false), locked);
+    }
+
+    @Test
+    public void test_offerRacingCompleteIsNeverLost() throws InterruptedException {
+        for (int trial = 0; trial < 200; trial++) {
+            QueuePublisher<Integer> racing = new QueuePublisher<>(new IntFIFO(16));
+            RecordingSubscriber sink = new RecordingSubscriber();
+            racing.subscribe(sink);
+            sink.subscription.request(Long.MAX_VALUE);
+
+            int[] accepted = {0};
+            Thread producer = new Thread(() -> {
+                try {
+                    for (int i = 0; ; i++) {
+                        racing.offer(i);
+                        accepted[0]++;
+                    }
+                } catch (IllegalStateException e) {
+                    // complete() est passé : les offres suivantes sont refusées
+                }
+            });
+            producer.start();
+            Thread.yield();
+            racing.complete();
+            producer.join();
+
+            // Toute offre acceptée a été émise avant onComplete
+            assertTrue(sink.completed);
+            assertEquals(accepted[0], sink.received.size());
+        }
+    }
+
+    // === Tests d'intégration publieur / abonné ===
+
+    @Test
+    public void test_publisherToSubscriberAcrossThreads() throws InterruptedException {
+        QueuePublisher<Integer> source = new QueuePublisher<>(new IntFIFO(16));
+        QueueSubscriber<Integer> sink = new QueueSubscriber<>(new IntFIFO(16), 32);
+        source.subscribe(sink);
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                source.offer(i);
+            }
+            source.complete();
+        });
+        producer.start();
+
+        int expected = 0;
+        while (true) {
+            Integer value = sink.poll();
+            if (value != null) {
+                assertEquals(expected++, value); // FIFO de bout en bout
+            } else if (sink.isCompleted() && sink.size() == 0) {
+                break;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        producer.join();
+        assertEquals(20_000, expected);
+    }
+}
@@ -0,0 +1,255 @@
+package container;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Tests unitaires pour QueueServer et QueueClient (sur l'adresse de bouclage)
+ */
+public class TestQueueServer {
+
+    private QueueServer server;
+    private QueueClient client;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = new QueueServer();
+        client = new QueueClient(server.port());
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        client.close();
+        server.close();
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_fifo() throws IOException {
+        client.createFifo("jobs");
+        client.insert("jobs", 3, 1, 2);
+        assertEquals(3, client.size("jobs"));
+        assertArrayEquals(new int[] {3, 1}, client.pop("jobs", 2));
+        assertArrayEquals(new int[] {2}, client.pop("jobs", 10));
+        assertArrayEquals(new int[0], client.pop("jobs", 10));
+    }
+
+    @Test
+    public void test_priorityQueue() throws IOException {
+        client.createPriorityQueue("sched");
+        client.insert("sched", 5, 50, 20);
+        assertArrayEquals(new int[] {50, 20, 5}, client.pop("sched", 3));
+    }
+
+    // === Tests du pipelining ===
+
+    @Test
+    public void test_pipelinedBatch() throws IOException {
+        int[] values = new int[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        List<int[]> results = client.pipeline()
+            .createPriorityQueue("big")
+            .insert("big", values, 0, 50_000)
+            .insert("big", values, 50_000, 50_000)
+            .size("big")
+            .pop("big", 3)
+            .execute();
+
+        assertEquals(5, results.size());
+        assertEquals(0, results.get(0).length);
+        assertArrayEquals(new int[] {50_000}, results.get(1));
+        assertArrayEquals(new int[] {100_000}, results.get(3));
+        assertArrayEquals(new int[] {99_999, 99_998, 99_997}, results.get(4));
+
+        // Une grosse réponse (400 Ko) arrive aussi en entier
+        assertEquals(99_997, client.pop("big", 200_000).length);
+    }
+
+    @Test
+    public void test_manyClientsShareQueues() throws Exception {
+        client.createFifo("shared");
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(() -> {
+                try (QueueClient own = new QueueClient(server.port())) {
+                    QueueClient.Pipeline pipeline = own.pipeline();
+                    for (int i = 0; i < 100; i++) {
+                        pipeline.insert("shared", new int[] {1, 1, 1, 1, 1}, 0, 5);
+                    }
+                    pipeline.execute();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertEquals(4 * 100 * 5, client.size("shared"));
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_unknownQueueIsReportedButBatchRuns() throws IOException {
+        client.createFifo("known");
+        QueueClient.Pipeline pipeline = client.pipeline()
+            .insert("missing", new int[] {1}, 0, 1)
+            .insert("known", new int[] {7}, 0, 1);
+        IOException error = assertThrows(IOException.class, pipeline::execute);
+        assertTrue(error.getMessage().contains("missing"));
+        assertEquals(1, client.size("known")); // La connexion reste utilisable
+    }
+
+    @Test
+    public void test_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> client.pipeline().pop("q", -1));
+        assertThrows(IllegalArgumentException.class, () -> client.pipeline().size(""));
+        assertThrows(IllegalArgumentException.class,
+            () -> client.pipeline().insert("q", new int[2], 1, 2));
+    }
+
+    // === Tests de robustesse (trames écrites à la main) ===
+
+    private SocketChannel rawConnection() throws IOException {
+        return SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.port()));
+    }
+
+    // Trame [longueur][op][nom][int...] telle que l'enverrait un client
+    private static ByteBuffer frame(byte op, String name, int... ints) {
+        byte[] encoded = name.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 3 + encoded.length + 4 * ints.length);
+        buffer.putInt(3 + encoded.length + 4 * ints.length).put(op)
+            .putShort((short) encoded.length).put(encoded);
+        for (int value : ints) {
+            buffer.putInt(value);
+        }
+        return buffer.flip();
+    }
+
+    // Lit une réponse complète ; retourne son statut suivi de ses données
+    private static ByteBuffer readReply(SocketChannel channel) throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(4);
+        while (length.hasRemaining()) {
+            assertTrue(channel.read(length) >= 0, "Connexion fermée");
+        }
+        ByteBuffer body = ByteBuffer.allocate(length.flip().getInt());
+        while (body.hasRemaining()) {
+            assertTrue(channel.read(body) >= 0, "Connexion fermée");
+        }
+        return body.flip();
+    }
+
+    @Test
+    public void test_truncatedFrameClosesOnlyItsConnection() throws IOException {
+        client.createFifo("jobs");
+        try (SocketChannel raw = rawConnection()) {
+            raw.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 1, QueueProtocol.SIZE}));
+            assertEquals(-1, raw.read(ByteBuffer.allocate(16))); // Fermée par le serveur
+        }
+        try (SocketChannel raw = rawConnection()) {
+            // Longueur de nom plus grande que la trame
+            raw.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 3, QueueProtocol.SIZE, 0, 50}));
+            assertEquals(-1, raw.read(ByteBuffer.allocate(16)));
+        }
+        try (QueueClient other = new QueueClient(server.port())) {
+            other.insert("jobs", 4);
+            assertEquals(1, other.size("jobs"));
+        }
+        assertEquals(1, client.size("jobs"));
+    }
+
+    @Test
+    @Timeout(10)
+    public void test_hugeLengthAfterLargeReplyClosesOnlyItsConnection() throws IOException {
+        client.createFifo("big");
+        int[] values = new int[20_000];
+        client.insert("big", values);
+        try (SocketChannel raw = rawConnection()) {
+            // La réponse au POP dépasse OUT_LIMIT : l'en-tête suivant est lu hors de la boucle
+            ByteBuffer pop = frame(QueueProtocol.POP, "big", values.length);
+            ByteBuffer requests = ByteBuffer.allocate(pop.remaining() + 4);
+            requests.put(pop).putInt(0x1000_0000).flip();
+            while (requests.hasRemaining()) {
+                raw.write(requests);
+            }
+            ByteBuffer sink = ByteBuffer.allocate(64 * 1024);
+            try {
+                while (raw.read(sink.clear()) >= 0) {
+                    // Fermée par le serveur sans allouer le tampon annoncé
+                }
+            } catch (IOException e) {
+                // Réinitialisée par le serveur : également fermée
+            }
+        }
+        try (QueueClient other = new QueueClient(server.port())) {
+            other.insert("big", 7);
+            assertEquals(7, other.pop("big", 1)[0]);
+        }
+    }
+
+    @Test
+    public void test_invalidCountsAreRejectedWithoutSideEffects() throws IOException {
+        client.createFifo("jobs");
+        client.insert("jobs", 1, 2);
+        try (SocketChannel raw = rawConnection()) {
+            raw.write(frame(QueueProtocol.POP, "jobs", -5));
+            assertEquals(QueueProtocol.ERROR, readReply(raw).get());
+
+            // Annonce 3 valeurs mais n'en contient que 2 : rien ne doit être inséré
+            raw.write(frame(QueueProtocol.INSERT, "jobs", 3, 10, 20));
+            assertEquals(QueueProtocol.ERROR, readReply(raw).get());
+
+            // La connexion reste synchronisée
+            raw.write(frame(QueueProtocol.SIZE, "jobs"));
+            ByteBuffer reply = readReply(raw);
+            assertEquals(QueueProtocol.OK, reply.get());
+            assertEquals(2, reply.getInt());
+        }
+        assertArrayEquals(new int[] {1, 2}, client.pop("jobs", 10));
+    }
+
+    @Test
+    public void test_clientThatNeverReadsIsThrottled() throws Exception {
+        client.createFifo("flood");
+        try (SocketChannel raw = rawConnection()) {
+            raw.configureBlocking(false);
+            // Des milliers de requêtes SIZE sans lire les réponses : le serveur cesse de
+            // lire, donc nos écritures finissent par être bloquées par TCP
+            ByteBuffer request = frame(QueueProtocol.SIZE, "flood");
+            long sent = 0;
+            long deadline = System.currentTimeMillis() + 10_000;
+            int stalled = 0;
+            while (stalled < 50 && System.currentTimeMillis() < deadline) {
+                if (!request.hasRemaining()) {
+                    request.rewind();
+                    sent++;
+                }
+                if (raw.write(request) == 0) {
+                    stalled++;
+                    Thread.sleep(10);
+                } else {
+                    stalled = 0;
+                }
+            }
+            assertEquals(50, stalled, "Le serveur aurait dû cesser de lire");
+            assertTrue(sent > 1000);
+            // Le serveur sert toujours les autres clients
+            assertEquals(0, client.size("flood"));
+        }
+    }
+}
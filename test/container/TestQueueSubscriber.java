@@ -0,0 +1,137 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * Tests unitaires pour QueueSubscriber (demande par lots selon la place libre)
+ */
+public class TestQueueSubscriber {
+
+    /** Souscription qui enregistre les demandes reçues */
+    private static final class RecordingSubscription implements Flow.Subscription {
+        final List<Long> requests = new ArrayList<>();
+        boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requests.add(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private RecordingSubscription subscription;
+    private QueueSubscriber<Integer> subscriber;
+
+    @BeforeEach
+    public void setUp() {
+        subscription = new RecordingSubscription();
+        subscriber = new QueueSubscriber<>(new GenPriorityQueue<Integer>(8), 100);
+        subscriber.onSubscribe(subscription);
+    }
+
+    // === Tests de la demande ===
+
+    @Test
+    public void test_initialRequestIsTheLimit() {
+        assertEquals(List.of(100L), subscription.requests);
+    }
+
+    @Test
+    public void test_requestsInBatches() {
+        for (int i = 0; i < 100; i++) {
+            subscriber.onNext(i);
+        }
+        assertEquals(100, subscriber.size());
+
+        for (int i = 0; i < 24; i++) {
+            subscriber.poll();
+        }
+        assertEquals(1, subscription.requests.size()); // Moins d'un quart de place libre
+        subscriber.poll();
+        assertEquals(List.of(100L, 25L), subscription.requests);
+    }
+
+    @Test
+    public void test_requestIsCalledOutsideTheMonitor() {
+        QueueSubscriber<Integer> checked = new QueueSubscriber<>(new IntFIFO(8), 8);
+        List<Long> requests = new ArrayList<>();
+        checked.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                assertFalse(Thread.holdsLock(checked)); // §2.7 / §3.3 : pas sous le verrou
+                requests.add(n);
+            }
+
+            @Override
+            public void cancel() {
+                assertFalse(Thread.holdsLock(checked));
+            }
+        });
+        for (int i = 0; i < 8; i++) {
+            checked.onNext(i);
+        }
+        for (int i = 0; i < 8; i++) {
+            assertEquals(i, checked.poll());
+        }
+        checked.cancel();
+        assertEquals(List.of(8L, 2L, 2L, 2L, 2L), requests);
+    }
+
+    @Test
+    public void test_pollFollowsQueueOrder() {
+        subscriber.onNext(3);
+        subscriber.onNext(9);
+        subscriber.onNext(5);
+        assertEquals(9, subscriber.poll());
+        assertEquals(5, subscriber.poll());
+        assertEquals(3, subscriber.poll());
+        assertNull(subscriber.poll());
+    }
+
+    // === Tests de terminaison ===
+
+    @Test
+    public void test_completionAndError() {
+        subscriber.onNext(1);
+        subscriber.onComplete();
+        assertTrue(subscriber.isCompleted());
+        assertEquals(1, subscriber.poll()); // Les éléments restent disponibles
+        assertEquals(1, subscription.requests.size()); // Plus de demande après la fin
+
+        QueueSubscriber<Integer> failing = new QueueSubscriber<>(new IntFIFO(4), 4);
+        failing.onSubscribe(new RecordingSubscription());
+        RuntimeException boom = new RuntimeException("boom");
+        failing.onError(boom);
+        assertSame(boom, failing.error());
+    }
+
+    @Test
+    public void test_cancelAndSecondSubscription() {
+        RecordingSubscription second = new RecordingSubscription();
+        subscriber.onSubscribe(second);
+        assertTrue(second.cancelled);
+
+        subscriber.cancel();
+        assertTrue(subscription.cancelled);
+        assertTrue(subscriber.isCompleted());
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_errors() {
+        assertThrows(IllegalArgumentException.class, () -> new QueueSubscriber<>(null, 4));
+        assertThrows(IllegalArgumentException.class, () -> new QueueSubscriber<>(new IntFIFO(4), 0));
+        QueueSubscriber<Integer> fresh = new QueueSubscriber<>(new IntFIFO(4), 4);
+        assertThrows(NullPointerException.class, () -> fresh.onSubscribe(null));
+    }
+}
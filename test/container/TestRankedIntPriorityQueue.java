@@ -0,0 +1,148 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour RankedIntPriorityQueue (statistiques d'ordre - Max-Heap)
+ */
+public class TestRankedIntPriorityQueue {
+
+    private RankedIntPriorityQueue queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new RankedIntPriorityQueue(-100, 100);
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_newQueueIsEmpty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.countAbove(0));
+        assertEquals(1, queue.rank(0));
+    }
+
+    @Test
+    public void test_maxHeapProperty() {
+        queue.insertElement(10);
+        queue.insertElement(-30);
+        queue.insertElement(20);
+
+        assertEquals(20, queue.element());
+        assertEquals(20, queue.popElement());
+        assertEquals(10, queue.popElement());
+        assertEquals(-30, queue.popElement());
+        assertTrue(queue.isEmpty());
+    }
+
+    // === Tests des statistiques d'ordre ===
+
+    @Test
+    public void test_countAboveAndRank() {
+        for (int p : new int[] {5, 10, 10, 20, -7}) {
+            queue.insert(p);
+        }
+        assertEquals(3, queue.countAbove(5));
+        assertEquals(1, queue.countAbove(10));
+        assertEquals(5, queue.countAbove(-1000)); // Sous le domaine
+        assertEquals(0, queue.countAbove(100));
+        assertEquals(2, queue.rank(10));
+        assertEquals(1, queue.rank(50));
+    }
+
+    @Test
+    public void test_kth() {
+        for (int p : new int[] {5, 10, 10, 20, -7}) {
+            queue.insert(p);
+        }
+        assertEquals(20, queue.kth(1));
+        assertEquals(10, queue.kth(2));
+        assertEquals(10, queue.kth(3));
+        assertEquals(5, queue.kth(4));
+        assertEquals(-7, queue.kth(5));
+    }
+
+    @Test
+    public void test_remove() {
+        for (int p : new int[] {5, 10, 10, 20}) {
+            queue.insert(p);
+        }
+        assertTrue(queue.remove(10));
+        assertFalse(queue.remove(7));
+        assertFalse(queue.remove(500));
+        assertEquals(3, queue.size());
+        assertEquals(10, queue.kth(2));
+        assertEquals(5, queue.kth(3));
+    }
+
+    @Test
+    public void test_countInRange() {
+        for (int p : new int[] {-100, 0, 50, 50, 100}) {
+            queue.insert(p);
+        }
+        assertEquals(5, queue.countInRange(-100, 100));
+        assertEquals(3, queue.countInRange(0, 50));
+        assertEquals(2, queue.countInRange(50, 50));
+        assertEquals(1, queue.countInRange(-1000, -50)); // Borne hors domaine
+        assertEquals(0, queue.countInRange(60, 10));
+    }
+
+    @Test
+    public void test_randomAgainstSortedList() {
+        Random random = new Random(17);
+        List<Integer> reference = new ArrayList<>();
+        for (int step = 0; step < 3000; step++) {
+            if (reference.isEmpty() || random.nextInt(3) > 0) {
+                int p = random.nextInt(201) - 100;
+                queue.insert(p);
+                reference.add(p);
+            } else {
+                Integer max = Collections.max(reference);
+                reference.remove(max);
+                assertEquals((int) max, queue.pop());
+            }
+            if (step % 100 == 0 && !reference.isEmpty()) {
+                List<Integer> sorted = new ArrayList<>(reference);
+                sorted.sort(Collections.reverseOrder());
+                int k = 1 + random.nextInt(sorted.size());
+                assertEquals((int) sorted.get(k - 1), queue.kth(k));
+                int p = random.nextInt(201) - 100;
+                assertEquals(sorted.stream().filter(v -> v > p).count(), queue.countAbove(p));
+            }
+        }
+    }
+
+    // === Tests de l'itérateur et toString ===
+
+    @Test
+    public void test_iteratorIsSortedDescending() {
+        for (int p : new int[] {3, -1, 3, 7}) {
+            queue.insert(p);
+        }
+        assertEquals("[7, 3, 3, -1]", queue.toString());
+        assertEquals(4, queue.size()); // L'itération ne consomme rien
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_errors() {
+        assertThrows(NoSuchElementException.class, () -> queue.pop());
+        assertThrows(NoSuchElementException.class, () -> queue.iterator().next());
+        assertThrows(IllegalArgumentException.class, () -> queue.insert(101));
+        assertThrows(IllegalArgumentException.class, () -> queue.insertElement(null));
+        queue.insert(1);
+        assertThrows(IllegalArgumentException.class, () -> queue.kth(2));
+        assertThrows(IllegalArgumentException.class, () -> new RankedIntPriorityQueue(5, 4));
+        assertThrows(IllegalArgumentException.class,
+            () -> new RankedIntPriorityQueue(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+}
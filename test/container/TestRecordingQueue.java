@@ -0,0 +1,101 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+/**
+ * Tests unitaires pour RecordingQueue et Trace (capture d'une trace d'opérations)
+ */
+public class TestRecordingQueue {
+
+    @TempDir
+    Path tempDir;
+
+    private Trace trace;
+    private RecordingQueue<Integer> queue;
+
+    @BeforeEach
+    public void setUp() {
+        trace = new Trace(2);
+        queue = RecordingQueue.of(new IntPriorityQueue(4), trace);
+    }
+
+    // === Tests d'enregistrement ===
+
+    @Test
+    public void test_delegatesAndRecords() {
+        queue.insertElement(5);
+        queue.insertElement(9);
+        assertEquals(9, queue.element());
+        assertEquals(9, queue.popElement());
+        assertEquals(1, queue.size());
+
+        assertEquals(4, trace.size());
+        assertEquals(Trace.INSERT, trace.op(0));
+        assertEquals(5, trace.key(0));
+        assertEquals(Trace.PEEK, trace.op(2));
+        assertEquals(Trace.POP, trace.op(3));
+        assertEquals(9, trace.key(3));
+        assertTrue(trace.timeNanos(3) >= trace.timeNanos(0));
+    }
+
+    @Test
+    public void test_failedCallsAreNotRecorded() {
+        assertThrows(NoSuchElementException.class, () -> queue.popElement());
+        assertThrows(IllegalArgumentException.class, () -> queue.insertElement(null));
+        assertEquals(0, trace.size());
+    }
+
+    @Test
+    public void test_keyExtractor() {
+        Trace stringTrace = new Trace();
+        RecordingQueue<String> strings =
+            new RecordingQueue<>(new GenPriorityQueue<String>(4), String::length, stringTrace);
+        strings.insertElement("abc");
+        strings.insertElement("z");
+        assertEquals("z", strings.popElement());
+        assertEquals(1, stringTrace.key(2));
+    }
+
+    // === Tests de persistance de la trace ===
+
+    @Test
+    public void test_writeAndRead() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            queue.insertElement(i);
+            if (i % 4 == 0) {
+                queue.popElement();
+            }
+        }
+        Path file = tempDir.resolve("ops.trace");
+        trace.write(file);
+        Trace copy = Trace.read(file);
+
+        assertEquals(trace.size(), copy.size());
+        for (int i = 0; i < trace.size(); i++) {
+            assertEquals(trace.op(i), copy.op(i));
+            assertEquals(trace.key(i), copy.key(i));
+            assertEquals(trace.timeNanos(i), copy.timeNanos(i));
+        }
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_errors() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> trace.add((byte) 7, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> trace.op(0));
+        assertThrows(IllegalArgumentException.class, () -> new Trace(0));
+        assertThrows(IllegalArgumentException.class, () -> RecordingQueue.of(null, trace));
+
+        Path garbage = tempDir.resolve("garbage");
+        Files.write(garbage, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> Trace.read(garbage));
+    }
+}
@@ -0,0 +1,134 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour RelaxedIntPriorityQueue (ordre relâché, erreur de rang bornée)
+ */
+public class TestRelaxedIntPriorityQueue {
+
+    private RelaxedIntPriorityQueue queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new RelaxedIntPriorityQueue(3, 4);
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_newQueueIsEmpty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertEquals(4, queue.relaxation());
+    }
+
+    @Test
+    public void test_exactWhenRelaxationIsOne() {
+        RelaxedIntPriorityQueue exact = new RelaxedIntPriorityQueue(2, 1);
+        IntPriorityQueue reference = new IntPriorityQueue(2);
+        Random random = new Random(44);
+        for (int i = 0; i < 3000; i++) {
+            int value = random.nextInt();
+            exact.insert(value);
+            reference.insertElement(value);
+            if (i % 3 == 0) {
+                assertEquals(reference.popElement(), exact.popElement());
+            }
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.popElement(), exact.popElement());
+        }
+    }
+
+    @Test
+    public void test_bufferedElementsArePopped() {
+        queue.insert(5);
+        queue.insert(9); // Encore dans le tampon
+        assertEquals(2, queue.size());
+        int first = queue.pop();
+        int second = queue.pop();
+        assertEquals(14, first + second);
+        assertTrue(queue.isEmpty());
+    }
+
+    // === Tests de la borne d'erreur de rang ===
+
+    @Test
+    public void test_rankErrorIsBounded() {
+        for (int k : new int[] {2, 4, 16, 64}) {
+            RelaxedIntPriorityQueue relaxed = new RelaxedIntPriorityQueue(8, k);
+            RankedIntPriorityQueue ranks = new RankedIntPriorityQueue(0, 9999);
+            Random random = new Random(k);
+            int maxRank = 0;
+            for (int i = 0; i < 20_000; i++) {
+                if (ranks.isEmpty() || random.nextInt(5) < 3) {
+                    int value = random.nextInt(10_000);
+                    relaxed.insert(value);
+                    ranks.insert(value);
+                } else {
+                    int popped = relaxed.pop();
+                    int rank = ranks.rank(popped);
+                    maxRank = Math.max(maxRank, rank);
+                    assertTrue(ranks.remove(popped));
+                }
+                assertEquals(ranks.size(), relaxed.size());
+            }
+            assertTrue(maxRank <= k, "k = " + k + ", rang observé = " + maxRank);
+        }
+    }
+
+    @Test
+    public void test_runCountIsLogarithmic() {
+        RelaxedIntPriorityQueue relaxed = new RelaxedIntPriorityQueue(8, 16);
+        Random random = new Random(46);
+        int maxRuns = 0;
+        for (int i = 0; i < 100_000; i++) {
+            relaxed.insert(random.nextInt());
+            maxRuns = Math.max(maxRuns, relaxed.runCount());
+        }
+        // Tailles au moins doublées d'une suite à l'autre : log2(100 000 / 16) + 1 < 14
+        assertTrue(maxRuns <= 14, "suites = " + maxRuns);
+        int pops = 0;
+        while (!relaxed.isEmpty()) {
+            relaxed.pop();
+            pops++;
+        }
+        assertEquals(100_000, pops);
+        assertEquals(0, relaxed.runCount());
+    }
+
+    // === Tests de l'itérateur et toString ===
+
+    @Test
+    public void test_iteratorCoversRunsAndBuffer() {
+        for (int i = 1; i <= 10; i++) {
+            queue.insertElement(i);
+        }
+        int sum = 0;
+        for (int value : queue) {
+            sum += value;
+        }
+        assertEquals(55, sum);
+        assertTrue(queue.toString().contains(" | "));
+        assertTrue(queue.capacity() >= 9);
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_errors() {
+        assertThrows(NoSuchElementException.class, () -> queue.pop());
+        assertThrows(NoSuchElementException.class, () -> queue.element());
+        Iterator<Integer> it = queue.iterator();
+        assertThrows(NoSuchElementException.class, () -> it.next());
+        assertThrows(IllegalArgumentException.class, () -> queue.insertElement(null));
+        assertThrows(IllegalArgumentException.class, () -> new RelaxedIntPriorityQueue(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new RelaxedIntPriorityQueue(2, 0));
+    }
+}
@@ -0,0 +1,114 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour SegmentedGenPriorityQueue (tas stocké par segments - Max-Heap)
+ */
+public class TestSegmentedGenPriorityQueue {
+
+    private SegmentedGenPriorityQueue<Integer> queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new SegmentedGenPriorityQueue<>(8);
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_newQueueIsEmpty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.capacity());
+        assertEquals("[]", queue.toString());
+    }
+
+    @Test
+    public void test_maxHeapProperty() {
+        queue.insertElement(10);
+        queue.insertElement(30);
+        queue.insertElement(20);
+
+        assertEquals(30, queue.element());
+        assertEquals("[30, 10, 20]", queue.toString());
+        assertEquals(30, queue.popElement());
+        assertEquals(20, queue.popElement());
+        assertEquals(10, queue.popElement());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void test_strings() {
+        SegmentedGenPriorityQueue<String> strings = new SegmentedGenPriorityQueue<>();
+        strings.insertElement("banana");
+        strings.insertElement("cherry");
+        strings.insertElement("apple");
+        assertEquals("cherry", strings.popElement());
+        assertEquals("banana", strings.popElement());
+        assertEquals(1024, strings.capacity()); // Un seul segment par défaut
+    }
+
+    // === Tests des segments ===
+
+    @Test
+    public void test_randomAgainstGenPriorityQueue() {
+        GenPriorityQueue<Integer> reference = new GenPriorityQueue<>(8);
+        Random random = new Random(11);
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(10_000);
+            queue.insertElement(value);
+            reference.insertElement(value);
+            if (i % 3 == 0) {
+                assertEquals(reference.popElement(), queue.popElement());
+            }
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.popElement(), queue.popElement());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void test_shrinkingReleasesChunks() {
+        for (int i = 0; i < 800; i++) {
+            queue.insertElement(i);
+        }
+        assertEquals(100, queue.chunkCount());
+        while (queue.size() > 20) {
+            queue.popElement();
+        }
+        assertTrue(queue.chunkCount() <= 4); // Segments utiles plus une réserve
+        assertEquals(19, queue.element());
+    }
+
+    // === Tests de l'itérateur ===
+
+    @Test
+    public void test_iteratorVisitsAll() {
+        for (int i = 1; i <= 50; i++) {
+            queue.insertElement(i);
+        }
+        int sum = 0;
+        for (int value : queue) {
+            sum += value;
+        }
+        assertEquals(50 * 51 / 2, sum);
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_errors() {
+        assertThrows(NoSuchElementException.class, () -> queue.element());
+        assertThrows(NoSuchElementException.class, () -> queue.popElement());
+        Iterator<Integer> it = queue.iterator();
+        assertThrows(NoSuchElementException.class, () -> it.next());
+        assertThrows(IllegalArgumentException.class, () -> queue.insertElement(null));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedGenPriorityQueue<Integer>(100));
+    }
+}
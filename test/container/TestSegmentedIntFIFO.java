@@ -0,0 +1,112 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Tests unitaires pour SegmentedIntFIFO (file FIFO stockée par segments)
+ */
+public class TestSegmentedIntFIFO {
+
+    private SegmentedIntFIFO queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new SegmentedIntFIFO(4);
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_newQueueIsEmpty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertEquals(0, queue.chunkCount());
+        assertEquals("[]", queue.toString());
+    }
+
+    @Test
+    public void test_fifoOrder() {
+        queue.insertElement(10);
+        queue.insertElement(20);
+        queue.insertElement(30);
+
+        assertEquals(10, queue.element());
+        assertEquals(10, queue.popElement());
+        assertEquals(20, queue.popElement());
+        assertEquals(30, queue.popElement());
+        assertTrue(queue.isEmpty());
+    }
+
+    // === Tests des segments ===
+
+    @Test
+    public void test_growthAddsChunks() {
+        for (int i = 0; i < 10; i++) {
+            queue.insertElement(i);
+        }
+        assertEquals(3, queue.chunkCount()); // 10 éléments sur des segments de 4
+        assertEquals(12, queue.capacity());
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", queue.toString());
+    }
+
+    @Test
+    public void test_drainingReleasesChunks() {
+        for (int i = 0; i < 100; i++) {
+            queue.insertElement(i);
+        }
+        assertEquals(25, queue.chunkCount());
+        for (int i = 0; i < 90; i++) {
+            assertEquals(i, queue.popElement());
+        }
+        assertEquals(3, queue.chunkCount()); // Seuls les segments encore utiles restent
+        for (int i = 90; i < 100; i++) {
+            assertEquals(i, queue.popElement());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void test_steadyStateKeepsFewChunks() {
+        // Insertions et retraits alternés : la mémoire reste bornée
+        for (int i = 0; i < 10_000; i++) {
+            queue.insertElement(i);
+            if (i >= 5) {
+                assertEquals(i - 5, queue.popElement());
+            }
+            assertTrue(queue.chunkCount() <= 3);
+        }
+    }
+
+    // === Tests de l'itérateur ===
+
+    @Test
+    public void test_iteratorAcrossChunks() {
+        queue.insertElement(-1);
+        queue.popElement();
+        for (int i = 0; i < 9; i++) {
+            queue.insertElement(i);
+        }
+        int expected = 0;
+        for (int value : queue) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(9, expected);
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_errors() {
+        assertThrows(NoSuchElementException.class, () -> queue.element());
+        assertThrows(NoSuchElementException.class, () -> queue.popElement());
+        Iterator<Integer> it = queue.iterator();
+        assertThrows(NoSuchElementException.class, () -> it.next());
+        assertThrows(IllegalArgumentException.class, () -> queue.insertElement(null));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedIntFIFO(0));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentedIntFIFO(6));
+    }
+}
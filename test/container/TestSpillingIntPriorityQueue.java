@@ -0,0 +1,221 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Tests unitaires pour SpillingIntPriorityQueue (Max-Heap débordant sur disque)
+ */
+public class TestSpillingIntPriorityQueue {
+
+    @TempDir
+    Path directory;
+
+    private SpillingIntPriorityQueue queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new SpillingIntPriorityQueue(4, directory);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        queue.close();
+    }
+
+    private long filesInDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_newQueueIsEmpty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertEquals(0, queue.spilledRuns());
+    }
+
+    @Test
+    public void test_inMemoryOnly() {
+        queue.insert(10);
+        queue.insert(30);
+        queue.insert(20);
+
+        assertEquals(0, queue.spilledRuns());
+        assertEquals(30, queue.pop());
+        assertEquals(20, queue.pop());
+        assertEquals(10, queue.pop());
+    }
+
+    // === Tests de débordement ===
+
+    @Test
+    public void test_spillWhenBudgetExceeded() throws IOException {
+        for (int i = 1; i <= 10; i++) {
+            queue.insert(i);
+        }
+        assertEquals(10, queue.size());
+        assertEquals(2, queue.spilledRuns());
+        assertEquals(2, filesInDirectory());
+
+        for (int i = 10; i >= 1; i--) {
+            assertEquals(i, queue.peek());
+            assertEquals(i, queue.pop());
+        }
+        assertTrue(queue.isEmpty());
+        assertEquals(0, filesInDirectory()); // Séquences épuisées supprimées
+    }
+
+    @Test
+    public void test_randomOrderWithMerges() {
+        // Budget de 1 : chaque insertion déborde, ce qui force des fusions de séquences
+        try (SpillingIntPriorityQueue tiny = new SpillingIntPriorityQueue(1, directory)) {
+            IntPriorityQueue reference = new IntPriorityQueue(1);
+            Random random = new Random(5);
+            for (int i = 0; i < 500; i++) {
+                int value = random.nextInt(1000) - 500;
+                tiny.insert(value);
+                reference.insertElement(value);
+                if (i % 4 == 0) {
+                    assertEquals(reference.popElement(), tiny.pop());
+                }
+            }
+            assertTrue(tiny.spilledRuns() < 7 * 4); // Moins de 8 séquences par niveau
+            while (!reference.isEmpty()) {
+                assertEquals(reference.popElement(), tiny.popElement());
+            }
+        }
+    }
+
+    @Test
+    public void test_levelledMergesBoundWritesAndRuns() {
+        // 4096 débordements d'un élément : fusions par niveaux de 8, soit 4 niveaux de fusion
+        try (SpillingIntPriorityQueue tiny = new SpillingIntPriorityQueue(1, directory)) {
+            Random random = new Random(6);
+            int n = 4097;
+            for (int i = 0; i < n; i++) {
+                tiny.insert(random.nextInt());
+                assertTrue(tiny.spilledRuns() < 7 * 5, "séquences : " + tiny.spilledRuns());
+            }
+            // Chaque élément est écrit une fois au débordement puis une fois par niveau,
+            // au lieu d'une réécriture de toutes les séquences à chaque fusion
+            assertTrue(tiny.writtenElements() <= 5L * n, "écrits : " + tiny.writtenElements());
+            int previous = Integer.MAX_VALUE;
+            while (!tiny.isEmpty()) {
+                int value = tiny.pop();
+                assertTrue(value <= previous);
+                previous = value;
+            }
+        }
+    }
+
+    @Test
+    public void test_failedMergeLosesNothing() throws IOException {
+        try (SpillingIntPriorityQueue tiny = new SpillingIntPriorityQueue(1, directory)) {
+            // Le 8e débordement écrit run-...-7 puis fusionne dans run-...-8 : occuper ce nom
+            // fait échouer la fusion une fois le fichier temporaire entièrement écrit
+            Path blocker = directory.resolve("run-" + System.identityHashCode(tiny) + "-8.bin");
+            Files.createFile(blocker);
+            for (int i = 1; i <= 8; i++) {
+                tiny.insert(i);
+            }
+            assertThrows(UncheckedIOException.class, () -> tiny.insert(9));
+            assertEquals(8, tiny.size());
+            assertEquals(8, tiny.spilledRuns()); // Sources intactes, aucune séquence partielle
+            assertEquals(9, filesInDirectory()); // Fichier temporaire supprimé
+
+            Files.delete(blocker);
+            tiny.insert(9);
+            assertEquals(9, tiny.size());
+            for (int i = 9; i >= 1; i--) {
+                assertEquals(i, tiny.pop());
+            }
+        }
+        assertEquals(0, filesInDirectory());
+    }
+
+    // === Tests de l'itérateur ===
+
+    @Test
+    public void test_iteratorCoversMemoryAndDisk() {
+        int expectedSum = 0;
+        for (int i = 1; i <= 9; i++) {
+            queue.insert(i);
+            expectedSum += i;
+        }
+        queue.pop(); // La tête d'une séquence n'est plus comptée
+
+        int sum = 0;
+        int count = 0;
+        for (int value : queue) {
+            sum += value;
+            count++;
+        }
+        assertEquals(8, count);
+        assertEquals(expectedSum - 9, sum);
+        assertEquals(8, queue.size()); // L'itération ne consomme rien
+    }
+
+    @Test
+    public void test_iteratorThrowsWhenExhausted() {
+        Iterator<Integer> it = queue.iterator();
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, () -> it.next());
+    }
+
+    // === Tests de fermeture ===
+
+    @Test
+    public void test_closeDeletesFiles() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            queue.insert(i);
+        }
+        assertTrue(filesInDirectory() > 0);
+        queue.close();
+        assertEquals(0, filesInDirectory());
+        assertThrows(IllegalStateException.class, () -> queue.insert(1));
+    }
+
+    @Test
+    public void test_privateTempDirectoryIsRemoved() {
+        SpillingIntPriorityQueue own = new SpillingIntPriorityQueue(2);
+        for (int i = 0; i < 10; i++) {
+            own.insert(i);
+        }
+        assertEquals(9, own.pop());
+        own.close();
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_emptyQueueErrors() {
+        assertThrows(NoSuchElementException.class, () -> queue.peek());
+        assertThrows(NoSuchElementException.class, () -> queue.pop());
+    }
+
+    @Test
+    public void test_insertNull() {
+        assertThrows(IllegalArgumentException.class, () -> queue.insertElement(null));
+    }
+
+    @Test
+    public void test_invalidBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new SpillingIntPriorityQueue(0, directory));
+        assertThrows(IllegalArgumentException.class, () -> new SpillingIntPriorityQueue(4, null));
+    }
+}
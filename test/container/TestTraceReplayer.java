@@ -0,0 +1,86 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Tests unitaires pour TraceReplayer (rejeu en boucle ouverte)
+ */
+public class TestTraceReplayer {
+
+    private static Trace recordSample() {
+        Trace trace = new Trace();
+        RecordingQueue<Integer> queue = RecordingQueue.of(new IntPriorityQueue(8), trace);
+        Random random = new Random(8);
+        for (int i = 0; i < 500; i++) {
+            queue.insertElement(random.nextInt(1000));
+            if (i % 10 == 0) {
+                queue.element();
+            }
+            if (i % 3 == 0) {
+                queue.popElement();
+            }
+        }
+        return trace;
+    }
+
+    // === Tests du rejeu ===
+
+    @Test
+    public void test_replayReproducesState() {
+        Trace trace = recordSample();
+        IntPriorityQueue target = new IntPriorityQueue(8);
+        LatencyHistogram histogram = new TraceReplayer(1_000_000).replay(trace, target);
+
+        assertEquals(trace.size(), histogram.count());
+        assertEquals(500 - 167, target.size()); // Mêmes insertions et retraits qu'à l'origine
+        assertTrue(histogram.max() >= histogram.percentile(50));
+    }
+
+    @Test
+    public void test_replayFollowsTargetRate() {
+        Trace trace = recordSample();
+        long start = System.nanoTime();
+        new TraceReplayer(100_000).replay(trace, new IntPriorityQueue(8));
+        long elapsed = System.nanoTime() - start;
+        // Au moins (n - 1) intervalles de 10 µs
+        assertTrue(elapsed >= (trace.size() - 1) * 10_000L);
+    }
+
+    @Test
+    public void test_popOnEmptyQueueIsSkipped() {
+        Trace trace = new Trace();
+        trace.add(Trace.POP, 3, 0);
+        trace.add(Trace.PEEK, 3, 0);
+        trace.add(Trace.INSERT, 3, 0);
+        IntFIFO target = new IntFIFO(2);
+        assertEquals(3, new TraceReplayer(1_000_000).replay(trace, target).count());
+        assertEquals(1, target.size());
+    }
+
+    @Test
+    public void test_compareAndReport() {
+        Trace trace = recordSample();
+        Map<String, Supplier<? extends Queue<Integer>>> implementations = new LinkedHashMap<>();
+        implementations.put("IntPriorityQueue", () -> new IntPriorityQueue(8));
+        implementations.put("WideIntPriorityQueue", () -> new WideIntPriorityQueue(8));
+
+        Map<String, LatencyHistogram> results = new TraceReplayer(1_000_000).compare(trace, implementations);
+        assertEquals(2, results.size());
+        String report = TraceReplayer.report(results);
+        assertTrue(report.startsWith("IntPriorityQueue"));
+        assertTrue(report.contains("p99.9="));
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_invalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> new TraceReplayer(0));
+        assertThrows(IllegalArgumentException.class, () -> new TraceReplayer(Double.NaN));
+    }
+}
@@ -0,0 +1,148 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.NoSuchElementException;
+
+/**
+ * Tests unitaires pour WeightedFairQueue (deficit round robin entre locataires)
+ */
+public class TestWeightedFairQueue {
+
+    private WeightedFairQueue queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new WeightedFairQueue(3);
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_newQueueIsEmpty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.tenantCount());
+        assertEquals(0, queue.activeTenants());
+    }
+
+    @Test
+    public void test_singleTenantIsFifo() {
+        int tenant = queue.addTenant(1);
+        queue.enqueue(tenant, 10);
+        queue.enqueue(tenant, 20);
+        queue.enqueue(tenant, 30);
+        queue.enqueue(tenant, 40); // Dépasse la capacité initiale
+
+        assertTrue(queue.isActive(tenant));
+        assertEquals(10, queue.dequeue());
+        assertEquals(20, queue.dequeue());
+        assertEquals(30, queue.dequeue());
+        assertEquals(40, queue.dequeue());
+        assertFalse(queue.isActive(tenant));
+    }
+
+    // === Tests d'équité ===
+
+    @Test
+    public void test_noisyTenantDoesNotStarveOthers() {
+        int noisy = queue.addTenant(1);
+        int quiet = queue.addTenant(1);
+        for (int i = 0; i < 1000; i++) {
+            queue.enqueue(noisy, i);
+        }
+        queue.enqueue(quiet, -1);
+
+        // Le locataire discret passe au plus tard en deuxième position
+        assertEquals(0, queue.dequeue());
+        assertEquals(-1, queue.dequeue());
+    }
+
+    @Test
+    public void test_sharesFollowWeights() {
+        int heavy = queue.addTenant(3);
+        int light = queue.addTenant(1);
+        for (int i = 0; i < 400; i++) {
+            queue.enqueue(heavy, 1);
+            queue.enqueue(light, 2);
+        }
+
+        int heavyCount = 0;
+        for (int i = 0; i < 400; i++) {
+            if (queue.dequeue() == 1) {
+                heavyCount++;
+            }
+        }
+        assertEquals(300, heavyCount);
+        assertEquals(400, queue.size());
+    }
+
+    @Test
+    public void test_setWeight() {
+        int a = queue.addTenant(1);
+        int b = queue.addTenant(1);
+        queue.setWeight(a, 2);
+        assertEquals(2, queue.weight(a));
+        for (int i = 0; i < 6; i++) {
+            queue.enqueue(a, 1);
+            queue.enqueue(b, 2);
+        }
+        int[] order = new int[6];
+        for (int i = 0; i < 6; i++) {
+            order[i] = queue.dequeue();
+        }
+        assertArrayEquals(new int[] {1, 1, 2, 1, 1, 2}, order);
+    }
+
+    @Test
+    public void test_manyTenants() {
+        for (int t = 0; t < 1000; t++) {
+            queue.addTenant(1 + t % 3);
+        }
+        for (int t = 0; t < 1000; t += 2) {
+            queue.enqueue(t, t);
+        }
+        assertEquals(500, queue.activeTenants());
+        for (int t = 0; t < 1000; t += 2) {
+            assertEquals(t, queue.dequeue()); // Un élément chacun, ordre d'activation
+        }
+        assertEquals(0, queue.activeTenants());
+    }
+
+    // === Tests du retrait par lots ===
+
+    @Test
+    public void test_dequeueBatchMatchesDequeue() {
+        WeightedFairQueue other = new WeightedFairQueue(3);
+        for (int t = 0; t < 5; t++) {
+            queue.addTenant(t + 1);
+            other.addTenant(t + 1);
+        }
+        for (int i = 0; i < 200; i++) {
+            queue.enqueue(i % 5, i);
+            other.enqueue(i % 5, i);
+        }
+
+        int[] batch = new int[256];
+        int count = 0;
+        int n;
+        while ((n = queue.dequeueBatch(batch, count, 7)) > 0) {
+            count += n;
+        }
+        assertEquals(200, count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(other.dequeue(), batch[i]);
+        }
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_errors() {
+        assertThrows(NoSuchElementException.class, () -> queue.dequeue());
+        assertThrows(IllegalArgumentException.class, () -> queue.enqueue(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> queue.addTenant(0));
+        assertThrows(IllegalArgumentException.class, () -> queue.dequeueBatch(new int[2], 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new WeightedFairQueue(0));
+    }
+}
@@ -0,0 +1,140 @@
+package container;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Tests unitaires pour WideIntPriorityQueue (tas d-aire d'int - Max-Heap)
+ */
+public class TestWideIntPriorityQueue {
+
+    private WideIntPriorityQueue queue;
+
+    @BeforeEach
+    public void setUp() {
+        queue = new WideIntPriorityQueue(3, 8);
+    }
+
+    // === Tests basiques ===
+
+    @Test
+    public void test_newQueueIsEmpty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertEquals(8, queue.arity());
+        assertEquals(16, new WideIntPriorityQueue(3).arity());
+    }
+
+    @Test
+    public void test_insertAndPopOneElement() {
+        queue.insert(10);
+        assertEquals(10, queue.peek());
+        assertEquals(10, queue.pop());
+        assertTrue(queue.isEmpty());
+    }
+
+    // === Tests de priorité ===
+
+    @Test
+    public void test_maxHeapProperty() {
+        queue.insertElement(10);
+        queue.insertElement(30);
+        queue.insertElement(20);
+
+        assertEquals(30, queue.element());
+        assertEquals(30, queue.popElement());
+        assertEquals(20, queue.popElement());
+        assertEquals(10, queue.popElement());
+    }
+
+    @Test
+    public void test_duplicateElements() {
+        // La recherche d'index du maximum doit tolérer les égalités
+        for (int i = 0; i < 40; i++) {
+            queue.insert(i % 4);
+        }
+        for (int expected = 3; expected >= 0; expected--) {
+            for (int i = 0; i < 10; i++) {
+                assertEquals(expected, queue.pop());
+            }
+        }
+    }
+
+    @Test
+    public void test_randomOrderBothArities() {
+        for (int arity : new int[] {8, 16}) {
+            WideIntPriorityQueue wide = new WideIntPriorityQueue(1, arity);
+            IntPriorityQueue reference = new IntPriorityQueue(1);
+            Random random = new Random(arity);
+            for (int i = 0; i < 5000; i++) {
+                int value = random.nextInt();
+                wide.insert(value);
+                reference.insertElement(value);
+                if (i % 3 == 0) {
+                    assertEquals(reference.popElement(), wide.pop());
+                }
+            }
+            while (!reference.isEmpty()) {
+                assertEquals(reference.popElement(), wide.pop());
+            }
+            assertTrue(wide.isEmpty());
+        }
+    }
+
+    // === Tests de redimensionnement ===
+
+    @Test
+    public void test_capacity() {
+        assertEquals(3, queue.capacity());
+        for (int i = 0; i < 4; i++) {
+            queue.insert(i); // Le 4e déclenche resize
+        }
+        assertTrue(queue.capacity() > 3);
+        assertEquals(3, queue.peek());
+    }
+
+    // === Tests de l'itérateur et toString ===
+
+    @Test
+    public void test_iterator() {
+        queue.insert(1);
+        queue.insert(2);
+
+        Iterator<Integer> it = queue.iterator();
+        assertNotNull(it.next());
+        assertNotNull(it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, () -> it.next());
+    }
+
+    @Test
+    public void test_toString() {
+        assertEquals("[]", queue.toString());
+        queue.insert(2);
+        queue.insert(5);
+        assertEquals("[5, 2]", queue.toString());
+    }
+
+    // === Tests d'erreurs ===
+
+    @Test
+    public void test_emptyQueueErrors() {
+        assertThrows(NoSuchElementException.class, () -> queue.peek());
+        assertThrows(NoSuchElementException.class, () -> queue.pop());
+    }
+
+    @Test
+    public void test_insertNull() {
+        assertThrows(IllegalArgumentException.class, () -> queue.insertElement(null));
+    }
+
+    @Test
+    public void test_invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new WideIntPriorityQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> new WideIntPriorityQueue(3, 4));
+    }
+}
@@ -0,0 +1,104 @@
+package container;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micro-benchmark de type fork/join : IntWorkStealingDeque contre ConcurrentLinkedDeque
+ *
+ * Chaque tâche est une profondeur d ; traiter une tâche d > 0 "fourche" deux tâches d - 1
+ * dans la deque du travailleur. Un travailleur sans tâche vole un voisin au hasard.
+ * Ce n'est pas un test JUnit (surefire l'ignore), il se lance à la main :
+ *
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes container.WorkStealingBenchmark [profondeur] [threads]
+ */
+public class WorkStealingBenchmark {
+
+    /** Opérations communes aux deux implémentations comparées */
+    private interface TaskDeque {
+        void push(int task);
+        int pop();   // Négatif si vide
+        int steal(); // Négatif si vide ou course perdue
+    }
+
+    private static final class ChaseLevDeque implements TaskDeque {
+        private final IntWorkStealingDeque deque = new IntWorkStealingDeque(64);
+        public void push(int task) { deque.push(task); }
+        public int pop() { return deque.pop(); }
+        public int steal() { return deque.steal(); }
+    }
+
+    private static final class LinkedDeque implements TaskDeque {
+        private final ConcurrentLinkedDeque<Integer> deque = new ConcurrentLinkedDeque<>();
+        public void push(int task) { deque.addLast(task); }
+        public int pop() { Integer task = deque.pollLast(); return task == null ? -1 : task; }
+        public int steal() { Integer task = deque.pollFirst(); return task == null ? -1 : task; }
+    }
+
+    // Exécute l'arbre de tâches de profondeur depth et retourne la durée en nanosecondes
+    private static long run(TaskDeque[] deques, int depth) throws InterruptedException {
+        long totalTasks = (1L << (depth + 1)) - 1;
+        AtomicLong completed = new AtomicLong();
+        Thread[] workers = new Thread[deques.length];
+        deques[0].push(depth);
+
+        long start = System.nanoTime();
+        for (int w = 0; w < workers.length; w++) {
+            TaskDeque own = deques[w];
+            workers[w] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long local = 0; // Tâches terminées pas encore publiées
+                while (completed.get() + local < totalTasks) {
+                    int task = own.pop();
+                    if (task < 0) {
+                        if (local > 0) {
+                            completed.addAndGet(local);
+                            local = 0;
+                        }
+                        task = deques[random.nextInt(deques.length)].steal();
+                        if (task < 0) {
+                            Thread.onSpinWait();
+                            continue;
+                        }
+                    }
+                    if (task > 0) {
+                        own.push(task - 1);
+                        own.push(task - 1);
+                    }
+                    local++;
+                }
+                completed.addAndGet(local);
+            });
+            workers[w].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return System.nanoTime() - start;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : 22;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long tasks = (1L << (depth + 1)) - 1;
+        System.out.printf("Profondeur %d (%d tâches), %d threads%n", depth, tasks, threads);
+
+        for (int round = 0; round < 5; round++) {
+            TaskDeque[] chaseLev = new TaskDeque[threads];
+            TaskDeque[] linked = new TaskDeque[threads];
+            for (int i = 0; i < threads; i++) {
+                chaseLev[i] = new ChaseLevDeque();
+                linked[i] = new LinkedDeque();
+            }
+            long chaseLevNanos = run(chaseLev, depth);
+            long linkedNanos = run(linked, depth);
+            System.out.printf("tour %d : IntWorkStealingDeque %6.1f ms (%5.1f Mtâches/s) | "
+                    + "ConcurrentLinkedDeque %6.1f ms (%5.1f Mtâches/s)%n",
+                round,
+                chaseLevNanos / 1e6, tasks * 1e3 / chaseLevNanos,
+                linkedNanos / 1e6, tasks * 1e3 / linkedNanos);
+        }
+    }
+}